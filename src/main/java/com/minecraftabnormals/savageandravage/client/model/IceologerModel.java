@@ -2,6 +2,7 @@ package com.minecraftabnormals.savageandravage.client.model;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Iterables;
+import com.minecraftabnormals.savageandravage.client.render.IceologerCapeState;
 import com.minecraftabnormals.savageandravage.common.entity.IceologerEntity;
 import net.minecraft.client.renderer.entity.model.BipedModel;
 import net.minecraft.client.renderer.model.ModelHelper;
@@ -65,9 +66,10 @@ public class IceologerModel extends BipedModel<IceologerEntity> {
 
 	@Override
 	public void prepareMobModel(IceologerEntity entity, float limbSwing, float limbSwingAmount, float partialTicks) {
-		double d0 = entity.prevChasingPosX + (entity.chasingPosX - entity.prevChasingPosX) * partialTicks - (entity.xo + (entity.getX() - entity.xo) * partialTicks);
-		double d1 = entity.prevChasingPosY + (entity.chasingPosY - entity.prevChasingPosY) * partialTicks - (entity.yo + (entity.getY() - entity.yo) * partialTicks);
-		double d2 = entity.prevChasingPosZ + (entity.chasingPosZ - entity.prevChasingPosZ) * partialTicks - (entity.zo + (entity.getZ() - entity.zo) * partialTicks);
+		IceologerCapeState cape = IceologerCapeState.get(entity);
+		double d0 = cape.getChasingX(partialTicks) - (entity.xo + (entity.getX() - entity.xo) * partialTicks);
+		double d1 = cape.getChasingY(partialTicks) - (entity.yo + (entity.getY() - entity.yo) * partialTicks);
+		double d2 = cape.getChasingZ(partialTicks) - (entity.zo + (entity.getZ() - entity.zo) * partialTicks);
 		float f = entity.yBodyRotO + (entity.yBodyRot - entity.yBodyRotO) * partialTicks;
 		double d3 = MathHelper.sin(f * 0.017453292F);
 		double d4 = (-MathHelper.cos(f * 0.017453292F));
@@ -78,7 +80,7 @@ public class IceologerModel extends BipedModel<IceologerEntity> {
 		float f3 = (float) (d0 * d4 - d2 * d3) * 100.0F;
 		f3 = MathHelper.clamp(f3, -20.0F, 20.0F);
 
-		float f4 = entity.prevCameraYaw + (entity.cameraYaw - entity.prevCameraYaw) * partialTicks;
+		float f4 = cape.getCameraYaw(partialTicks);
 		f1 = f1 + MathHelper.sin((entity.walkDistO + (entity.walkDist - entity.walkDistO) * partialTicks) * 6.0F) * 32.0F * f4;
 		if (entity.isShiftKeyDown())
 			f1 += 25.0F;
@@ -0,0 +1,102 @@
+package com.minecraftabnormals.savageandravage.client.render;
+
+import com.minecraftabnormals.savageandravage.common.entity.IceologerEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * The client-side state behind an iceologer's cape. It is only advanced when the iceologer is rendered, catching up on
+ * the ticks that passed since the last frame, so iceologers that aren't being drawn cost nothing.
+ */
+@OnlyIn(Dist.CLIENT)
+public class IceologerCapeState {
+	private static final Map<IceologerEntity, IceologerCapeState> STATES = new WeakHashMap<>();
+	private static final int MAX_CATCH_UP_TICKS = 20;
+
+	private int lastTick = -1;
+	private double prevChasingPosX;
+	private double prevChasingPosY;
+	private double prevChasingPosZ;
+	private double chasingPosX;
+	private double chasingPosY;
+	private double chasingPosZ;
+	private float prevCameraYaw;
+	private float cameraYaw;
+
+	public static IceologerCapeState get(IceologerEntity entity) {
+		IceologerCapeState state = STATES.computeIfAbsent(entity, key -> new IceologerCapeState());
+		state.update(entity);
+		return state;
+	}
+
+	private void update(IceologerEntity entity) {
+		int ticks = entity.tickCount - this.lastTick;
+		if (ticks <= 0)
+			return;
+		if (this.lastTick < 0 || ticks > MAX_CATCH_UP_TICKS) {
+			this.reset(entity);
+		} else {
+			for (int i = 0; i < ticks; i++)
+				this.tick(entity);
+		}
+		this.lastTick = entity.tickCount;
+	}
+
+	private void reset(Entity entity) {
+		this.prevChasingPosX = this.chasingPosX = entity.getX();
+		this.prevChasingPosY = this.chasingPosY = entity.getY();
+		this.prevChasingPosZ = this.chasingPosZ = entity.getZ();
+		this.prevCameraYaw = this.cameraYaw = 0.0F;
+	}
+
+	private void tick(IceologerEntity entity) {
+		this.prevCameraYaw = this.cameraYaw;
+		float f;
+		if (entity.isOnGround() && !entity.isDeadOrDying() && !entity.isSwimming()) {
+			Vector3d motion = entity.getDeltaMovement();
+			f = Math.min(0.1F, MathHelper.sqrt(motion.x * motion.x + motion.z * motion.z));
+		} else {
+			f = 0.0F;
+		}
+		this.cameraYaw += (f - this.cameraYaw) * 0.4F;
+
+		this.prevChasingPosX = this.chasingPosX;
+		this.prevChasingPosY = this.chasingPosY;
+		this.prevChasingPosZ = this.chasingPosZ;
+		double d0 = entity.getX() - this.chasingPosX;
+		double d1 = entity.getY() - this.chasingPosY;
+		double d2 = entity.getZ() - this.chasingPosZ;
+		if (d0 > 10.0D || d0 < -10.0D)
+			this.chasingPosX = entity.getX();
+		if (d1 > 10.0D || d1 < -10.0D)
+			this.chasingPosY = entity.getY();
+		if (d2 > 10.0D || d2 < -10.0D)
+			this.chasingPosZ = entity.getZ();
+
+		this.chasingPosX += d0 * 0.25D;
+		this.chasingPosZ += d2 * 0.25D;
+		this.chasingPosY += d1 * 0.25D;
+	}
+
+	public double getChasingX(float partialTicks) {
+		return MathHelper.lerp(partialTicks, this.prevChasingPosX, this.chasingPosX);
+	}
+
+	public double getChasingY(float partialTicks) {
+		return MathHelper.lerp(partialTicks, this.prevChasingPosY, this.chasingPosY);
+	}
+
+	public double getChasingZ(float partialTicks) {
+		return MathHelper.lerp(partialTicks, this.prevChasingPosZ, this.chasingPosZ);
+	}
+
+	public float getCameraYaw(float partialTicks) {
+		return MathHelper.lerp(partialTicks, this.prevCameraYaw, this.cameraYaw);
+	}
+}
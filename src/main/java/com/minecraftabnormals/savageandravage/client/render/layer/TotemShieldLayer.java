@@ -1,8 +1,7 @@
 package com.minecraftabnormals.savageandravage.client.render.layer;
 
-import com.minecraftabnormals.abnormals_core.common.world.storage.tracking.IDataManager;
+import com.minecraftabnormals.savageandravage.common.entity.TotemShield;
 import com.minecraftabnormals.savageandravage.core.SRConfig;
-import com.minecraftabnormals.savageandravage.core.registry.SREntities;
 import com.mojang.blaze3d.matrix.MatrixStack;
 import com.mojang.blaze3d.vertex.IVertexBuilder;
 import net.minecraft.client.renderer.IRenderTypeBuffer;
@@ -13,6 +12,7 @@ import net.minecraft.client.renderer.entity.model.EntityModel;
 import net.minecraft.client.renderer.entity.model.IllagerModel;
 import net.minecraft.client.renderer.texture.OverlayTexture;
 import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.monster.EvokerEntity;
 import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.api.distmarker.Dist;
@@ -28,8 +28,9 @@ public class TotemShieldLayer<E extends Entity, M extends EntityModel<E>> extend
 		this.model = scaledUpModel;
 	}
 
+	@Override
 	public void render(MatrixStack matrixStackIn, IRenderTypeBuffer bufferIn, int packedLightIn, E entity, float limbSwing, float limbSwingAmount, float partialTicks, float ageInTicks, float netHeadYaw, float headPitch) {
-		if ((!(entity instanceof EvokerEntity) || SRConfig.COMMON.evokersUseTotems.get()) && ((IDataManager) entity).getValue(SREntities.TOTEM_SHIELD_TIME) > 0) {
+		if ((!(entity instanceof EvokerEntity) || SRConfig.common().evokersUseTotems) && entity instanceof LivingEntity && TotemShield.isShielded((LivingEntity) entity)) {
 			float f = (float) entity.tickCount + partialTicks;
 			model.prepareMobModel(entity, limbSwing, limbSwingAmount, partialTicks);
 			this.getParentModel().copyPropertiesTo(model);
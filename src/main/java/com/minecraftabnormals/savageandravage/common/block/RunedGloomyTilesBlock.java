@@ -11,13 +11,19 @@ import net.minecraft.entity.item.ArmorStandEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.projectile.EvokerFangsEntity;
 import net.minecraft.tags.EntityTypeTags;
+import net.minecraft.tags.ITagCollection;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
 
 import net.minecraft.block.AbstractBlock.Properties;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class RunedGloomyTilesBlock extends ChiseledGloomyTilesBlock {
+	private static final Map<EntityType<?>, TriggerRule> TRIGGER_RULES = new ConcurrentHashMap<>();
+	private static volatile ITagCollection<EntityType<?>> cachedTags;
 
 	public RunedGloomyTilesBlock(Properties blockProperties) {
 		super(blockProperties);
@@ -42,16 +48,46 @@ public class RunedGloomyTilesBlock extends ChiseledGloomyTilesBlock {
 	}
 
 	public static boolean shouldTrigger(Entity entity) {
-		if (entity instanceof LivingEntity) {
-			if (!EntityTypeTags.RAIDERS.contains(entity.getType())) {
-				if (entity instanceof PlayerEntity) {
-					return !((PlayerEntity) entity).isCreative() && !entity.isSpectator();
-				} else if (entity instanceof IOwnableMob) {
-					LivingEntity owner = ((IOwnableMob) entity).getOwner();
-					return owner == null || !EntityTypeTags.RAIDERS.contains(owner.getType());
-				} else return !(entity instanceof ArmorStandEntity);
-			}
+		switch (getTriggerRule(entity)) {
+			case ALWAYS:
+				return true;
+			case PLAYER:
+				return !((PlayerEntity) entity).isCreative() && !entity.isSpectator();
+			case OWNED:
+				LivingEntity owner = ((IOwnableMob) entity).getOwner();
+				return owner == null || !isRaider(owner.getType());
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Works out what decides whether an entity triggers the tiles. This only depends on the entity's type, so it is
+	 * cached per type until the entity type tags are reloaded.
+	 */
+	private static TriggerRule getTriggerRule(Entity entity) {
+		ITagCollection<EntityType<?>> tags = EntityTypeTags.getAllTags();
+		if (tags != cachedTags) {
+			TRIGGER_RULES.clear();
+			cachedTags = tags;
 		}
-		return false;
+		return TRIGGER_RULES.computeIfAbsent(entity.getType(), type -> {
+			if (!(entity instanceof LivingEntity) || isRaider(type) || entity instanceof ArmorStandEntity)
+				return TriggerRule.NEVER;
+			if (entity instanceof PlayerEntity)
+				return TriggerRule.PLAYER;
+			return entity instanceof IOwnableMob ? TriggerRule.OWNED : TriggerRule.ALWAYS;
+		});
+	}
+
+	private static boolean isRaider(EntityType<?> type) {
+		return EntityTypeTags.RAIDERS.contains(type);
+	}
+
+	private enum TriggerRule {
+		NEVER,
+		ALWAYS,
+		PLAYER,
+		OWNED
 	}
 }
@@ -2,6 +2,7 @@ package com.minecraftabnormals.savageandravage.common.block;
 
 import com.minecraftabnormals.abnormals_core.core.util.item.filling.TargetedItemGroupFiller;
 import com.minecraftabnormals.savageandravage.common.entity.block.SporeBombEntity;
+import com.minecraftabnormals.savageandravage.core.other.SporeBombChainReaction;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.TNTBlock;
@@ -34,9 +35,8 @@ public class SporeBombBlock extends TNTBlock {
 
 	@Override
 	public void wasExploded(World world, BlockPos pos, Explosion explosionIn) {
-		SporeBombEntity sporebomb = new SporeBombEntity(world, pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5, explosionIn.getSourceMob());
-		sporebomb.setFuse((short) (world.getRandom().nextInt(sporebomb.getLife() / 4) + sporebomb.getLife() / 8));
-		world.addFreshEntity(sporebomb);
+		if (!world.isClientSide())
+			SporeBombChainReaction.queueDestroyed(world, pos, explosionIn.getSourceMob());
 	}
 
 	@Override
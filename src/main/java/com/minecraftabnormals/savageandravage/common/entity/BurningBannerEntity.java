@@ -3,10 +3,11 @@ package com.minecraftabnormals.savageandravage.common.entity;
 import com.minecraftabnormals.savageandravage.core.SRConfig;
 import com.minecraftabnormals.savageandravage.core.registry.SREntities;
 import com.minecraftabnormals.savageandravage.core.registry.SRTriggers;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.BannerBlock;
 import net.minecraft.block.BlockState;
 import net.minecraft.block.WallBannerBlock;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
@@ -29,23 +30,26 @@ import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TranslationTextComponent;
 import net.minecraft.world.GameRules;
 import net.minecraft.world.IBlockReader;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
-import net.minecraftforge.fml.common.registry.IEntityAdditionalSpawnData;
 import net.minecraftforge.fml.network.NetworkHooks;
 
 import javax.annotation.Nullable;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
-public class BurningBannerEntity extends Entity implements IEntityAdditionalSpawnData {
+public class BurningBannerEntity extends TimedEffectEntity {
 
-	public static final DataParameter<Integer> TICKS_TILL_REMOVE = EntityDataManager.defineId(BurningBannerEntity.class, DataSerializers.INT);
+	public static final int BURN_TIME = 110;
 	public static final DataParameter<Optional<BlockPos>> BLOCK_POS = EntityDataManager.defineId(BurningBannerEntity.class, DataSerializers.OPTIONAL_BLOCK_POS);
 	public static final DataParameter<Optional<UUID>> OFFENDER_UUID = EntityDataManager.defineId(BurningBannerEntity.class, DataSerializers.OPTIONAL_UUID);
 
 	private static final double[] ROTATED_VERTICES = new double[3];
+	private static final Map<IWorld, Long2ObjectMap<BurningBannerEntity>> BURNING_BANNERS = new ConcurrentHashMap<>();
 	private AxisAlignedBB burningBox;
 	private double burningBoxRotation;
 
@@ -53,10 +57,11 @@ public class BurningBannerEntity extends Entity implements IEntityAdditionalSpaw
 		super(type, world);
 		this.burningBox = new AxisAlignedBB(0, 0, 0, 1, 1, 1);
 		this.burningBoxRotation = 0;
+		this.setTicksTillRemove(BURN_TIME);
 	}
 
 	public BurningBannerEntity(World world, BlockPos pos, @Nullable PlayerEntity player) {
-		super(SREntities.BURNING_BANNER.get(), world);
+		this(SREntities.BURNING_BANNER.get(), world);
 		this.setBannerPosition(pos);
 		if (player != null) this.setOffenderId(player.getUUID());
 		BlockState state = world.getBlockState(pos);
@@ -67,15 +72,14 @@ public class BurningBannerEntity extends Entity implements IEntityAdditionalSpaw
 
 	@Override
 	protected void defineSynchedData() {
+		super.defineSynchedData();
 		this.entityData.define(BLOCK_POS, Optional.empty());
 		this.entityData.define(OFFENDER_UUID, Optional.empty());
-		this.entityData.define(TICKS_TILL_REMOVE, 110);
 	}
 
 	@Override
 	public void tick() {
-		this.setTicksTillRemove(this.getTicksTillRemove() - 1);
-		int ticksRemaining = this.getTicksTillRemove();
+		int ticksRemaining = this.tickTimer();
 
 		BlockPos bannerPos = this.getBannerPosition();
 		if (bannerPos == null || ticksRemaining <= 0) {
@@ -106,12 +110,12 @@ public class BurningBannerEntity extends Entity implements IEntityAdditionalSpaw
 				}
 			}
 		} else {
-			if (this.getTicksTillRemove() > 10) {
+			if (ticksRemaining > 10) {
 				this.playSound(this.level.getBlockEntity(bannerPos) instanceof BannerTileEntity ? SoundEvents.FIRE_AMBIENT : SoundEvents.FIRE_EXTINGUISH, 2F, this.level.getRandom().nextFloat() * 0.4F + 0.8F);
-			} else if (this.getTicksTillRemove() == 10) {
+			} else if (ticksRemaining == 10) {
 				this.playSound(SoundEvents.FIRE_EXTINGUISH, 2F, this.level.getRandom().nextFloat() * 0.4F + 0.8F);
 				PlayerEntity offender = this.getOffender();
-				if (offender != null && isOminousBanner(this.level, bannerPos) && ((ServerWorld) this.level).getRaidAt(bannerPos) == null && SRConfig.COMMON.noBadOmenOnDeath.get()) {
+				if (offender != null && isOminousBanner(this.level, bannerPos) && ((ServerWorld) this.level).getRaidAt(bannerPos) == null && SRConfig.common().noBadOmenOnDeath) {
 					SRTriggers.BURN_BANNER.trigger((ServerPlayerEntity) offender);
 					EffectInstance effect = offender.getEffect(Effects.BAD_OMEN);
 					if (effect != null)
@@ -125,6 +129,47 @@ public class BurningBannerEntity extends Entity implements IEntityAdditionalSpaw
 		}
 	}
 
+	@Override
+	public void onAddedToWorld() {
+		super.onAddedToWorld();
+		BlockPos bannerPos = this.getBannerPosition();
+		if (!this.level.isClientSide() && bannerPos != null)
+			BURNING_BANNERS.computeIfAbsent(this.level, world -> new Long2ObjectOpenHashMap<>()).put(bannerPos.asLong(), this);
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		super.onRemovedFromWorld();
+		BlockPos bannerPos = this.getBannerPosition();
+		if (!this.level.isClientSide() && bannerPos != null) {
+			Long2ObjectMap<BurningBannerEntity> banners = BURNING_BANNERS.get(this.level);
+			if (banners != null)
+				banners.remove(bannerPos.asLong(), this);
+		}
+	}
+
+	/**
+	 * Gets the burning banner at a position. Server worlds use an index of burning banners kept up to date as they are
+	 * added and removed, while clients fall back to searching the block's bounding box.
+	 */
+	@Nullable
+	public static BurningBannerEntity getBurningBanner(World world, BlockPos pos) {
+		if (!world.isClientSide()) {
+			Long2ObjectMap<BurningBannerEntity> banners = BURNING_BANNERS.get(world);
+			BurningBannerEntity banner = banners == null ? null : banners.get(pos.asLong());
+			return banner != null && banner.isAlive() ? banner : null;
+		}
+		for (BurningBannerEntity banner : world.getEntitiesOfClass(BurningBannerEntity.class, new AxisAlignedBB(pos))) {
+			if (pos.equals(banner.getBannerPosition()))
+				return banner;
+		}
+		return null;
+	}
+
+	public static void clearBurningBanners(IWorld world) {
+		BURNING_BANNERS.remove(world);
+	}
+
 	public void extinguishFire() {
 		this.playSound(SoundEvents.FIRE_EXTINGUISH, 0.5F, this.level.getRandom().nextFloat() * 0.4F + 0.8F);
 		this.remove();
@@ -136,8 +181,8 @@ public class BurningBannerEntity extends Entity implements IEntityAdditionalSpaw
 
 	@Override
 	protected void addAdditionalSaveData(CompoundNBT compound) {
+		super.addAdditionalSaveData(compound);
 		compound.putInt("Size", 0);
-		compound.putInt("TicksTillRemove", this.getTicksTillRemove());
 		if (this.getBannerPosition() != null)
 			compound.put("BannerPosition", NBTUtil.writeBlockPos(this.getBannerPosition()));
 		if (this.getOffenderId() != null)
@@ -146,21 +191,13 @@ public class BurningBannerEntity extends Entity implements IEntityAdditionalSpaw
 
 	@Override
 	protected void readAdditionalSaveData(CompoundNBT compound) {
-		this.setTicksTillRemove(compound.getInt("TicksTillRemove"));
+		super.readAdditionalSaveData(compound);
 		if (compound.contains("BannerPosition", 10))
 			this.setBannerPosition(NBTUtil.readBlockPos(compound.getCompound("BannerPosition")));
 		if (compound.hasUUID("Offender"))
 			this.setOffenderId(compound.getUUID("Offender"));
 	}
 
-	public int getTicksTillRemove() {
-		return this.entityData.get(TICKS_TILL_REMOVE);
-	}
-
-	public void setTicksTillRemove(int tickCount) {
-		this.entityData.set(TICKS_TILL_REMOVE, tickCount);
-	}
-
 	@Nullable
 	public BlockPos getBannerPosition() {
 		return this.entityData.get(BLOCK_POS).orElse(null);
@@ -228,6 +265,7 @@ public class BurningBannerEntity extends Entity implements IEntityAdditionalSpaw
 
 	@Override
 	public void writeSpawnData(PacketBuffer buf) {
+		super.writeSpawnData(buf);
 		BlockPos bannerPos = this.getBannerPosition();
 		buf.writeBoolean(bannerPos != null);
 		if (bannerPos != null)
@@ -236,6 +274,7 @@ public class BurningBannerEntity extends Entity implements IEntityAdditionalSpaw
 
 	@Override
 	public void readSpawnData(PacketBuffer buf) {
+		super.readSpawnData(buf);
 		BlockPos bannerPos = buf.readBoolean() ? buf.readBlockPos() : null;
 		if (bannerPos != null) {
 			BlockState state = this.level.getBlockState(bannerPos);
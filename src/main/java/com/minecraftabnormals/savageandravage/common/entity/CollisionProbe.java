@@ -0,0 +1,74 @@
+package com.minecraftabnormals.savageandravage.common.entity;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.block.Block;
+import net.minecraft.block.BlockState;
+import net.minecraft.util.Direction;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.shapes.IBooleanFunction;
+import net.minecraft.util.math.shapes.VoxelShape;
+import net.minecraft.util.math.shapes.VoxelShapes;
+import net.minecraft.world.World;
+
+/**
+ * Checks whether a box would be inside a suffocating block. A probe walks the blocks with a single mutable position and
+ * remembers the shapes it has looked up during the current game tick, so it can be reused for many attempts in a row.
+ * Probes are not thread safe; keep one per user.
+ */
+public class CollisionProbe {
+	private final BlockPos.Mutable cursor = new BlockPos.Mutable();
+	private final Long2ObjectOpenHashMap<VoxelShape> shapes = new Long2ObjectOpenHashMap<>();
+	private World cachedWorld;
+	private long cachedTime;
+
+	/**
+	 * @return <code>true</code> if no suffocating block in the world intersects the given box.
+	 */
+	public boolean isFree(World world, AxisAlignedBB box) {
+		if (world != this.cachedWorld || world.getGameTime() != this.cachedTime) {
+			this.shapes.clear();
+			this.cachedWorld = world;
+			this.cachedTime = world.getGameTime();
+		}
+
+		int minX = MathHelper.floor(box.minX);
+		int minY = MathHelper.floor(box.minY);
+		int minZ = MathHelper.floor(box.minZ);
+		int maxX = MathHelper.ceil(box.maxX);
+		int maxY = MathHelper.ceil(box.maxY);
+		int maxZ = MathHelper.ceil(box.maxZ);
+		for (int x = minX; x <= maxX; x++) {
+			for (int y = minY; y <= maxY; y++) {
+				for (int z = minZ; z <= maxZ; z++) {
+					VoxelShape shape = this.getSuffocatingShape(world, this.cursor.set(x, y, z));
+					if (!shape.isEmpty() && intersects(shape, x, y, z, box))
+						return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	private VoxelShape getSuffocatingShape(World world, BlockPos pos) {
+		long key = pos.asLong();
+		VoxelShape shape = this.shapes.get(key);
+		if (shape == null) {
+			BlockState state = world.getBlockState(pos);
+			shape = state.isSuffocating(world, pos) ? state.getShape(world, pos) : VoxelShapes.empty();
+			this.shapes.put(key, shape);
+		}
+		return shape;
+	}
+
+	private static boolean intersects(VoxelShape shape, int x, int y, int z, AxisAlignedBB box) {
+		if (shape.min(Direction.Axis.X) + x >= box.maxX || shape.max(Direction.Axis.X) + x <= box.minX
+				|| shape.min(Direction.Axis.Y) + y >= box.maxY || shape.max(Direction.Axis.Y) + y <= box.minY
+				|| shape.min(Direction.Axis.Z) + z >= box.maxZ || shape.max(Direction.Axis.Z) + z <= box.minZ)
+			return false;
+		if (Block.isShapeFullBlock(shape))
+			return true;
+		return VoxelShapes.joinIsNotEmpty(shape, VoxelShapes.create(box.move(-x, -y, -z)), IBooleanFunction.AND);
+	}
+}
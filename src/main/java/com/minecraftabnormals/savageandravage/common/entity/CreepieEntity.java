@@ -6,6 +6,9 @@ import com.minecraftabnormals.savageandravage.common.entity.goals.FollowMobOwner
 import com.minecraftabnormals.savageandravage.common.entity.goals.MobOwnerHurtByTargetGoal;
 import com.minecraftabnormals.savageandravage.common.entity.goals.MobOwnerHurtTargetGoal;
 import com.minecraftabnormals.savageandravage.core.SRConfig;
+import com.minecraftabnormals.savageandravage.core.other.CreepieSpawnGovernor;
+import com.minecraftabnormals.savageandravage.core.other.ExplosionBatcher;
+import com.minecraftabnormals.savageandravage.core.other.OwnedMobRegistry;
 import com.minecraftabnormals.savageandravage.core.registry.SRParticles;
 import com.minecraftabnormals.savageandravage.core.registry.SRSounds;
 import net.minecraft.entity.*;
@@ -47,18 +50,27 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 	private static final DataParameter<Boolean> POWERED = EntityDataManager.defineId(CreepieEntity.class, DataSerializers.BOOLEAN);
 	private static final DataParameter<Boolean> IGNITED = EntityDataManager.defineId(CreepieEntity.class, DataSerializers.BOOLEAN);
 	private static final DataParameter<Optional<UUID>> OWNER_UUID = EntityDataManager.defineId(CreepieEntity.class, DataSerializers.OPTIONAL_UUID);
-	private static final DataParameter<Integer> CONVERSION_TIME = EntityDataManager.defineId(CreepieEntity.class, DataSerializers.INT);
+	/**
+	 * The low 32 bits of the game time the creepie converts at, or {@link #NOT_CONVERTING}. It is only set once when the
+	 * conversion starts, and the full game time is recovered from the world's current game time.
+	 */
+	private static final DataParameter<Integer> CONVERSION_END_TIME = EntityDataManager.defineId(CreepieEntity.class, DataSerializers.INT);
+	private static final int NOT_CONVERTING = -1;
 	public boolean attackPlayersOnly;
 	public int lastActiveTime;
 	public int timeSinceIgnited;
 	public int fuseTime = 30;
-	private int growingAge = -24000;
+	private long growUpTime;
+	private boolean grownUp;
 	private int forcedAgeTimer;
 	private float explosionRadius;
 	private boolean hasStartedConverting = false;
+	private long governedChunk;
+	private final OwnerCache ownerCache = new OwnerCache();
 
 	public CreepieEntity(EntityType<? extends CreepieEntity> type, World worldIn) {
 		super(type, worldIn);
+		this.growUpTime = worldIn.getGameTime() + 24000;
 		this.explosionRadius = 1.2f;
 		this.xpReward = 0;
 	}
@@ -132,7 +144,7 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 		this.entityData.define(STATE, -1);
 		this.entityData.define(POWERED, false);
 		this.entityData.define(IGNITED, false);
-		this.entityData.define(CONVERSION_TIME, -1);
+		this.entityData.define(CONVERSION_END_TIME, NOT_CONVERTING);
 		this.entityData.define(OWNER_UUID, Optional.empty());
 	}
 
@@ -195,7 +207,9 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 	}
 
 	public int getGrowingAge() {
-		return this.growingAge;
+		if (this.grownUp)
+			return 0;
+		return (int) Math.max(Math.min(this.level.getGameTime() - this.growUpTime, 0), Integer.MIN_VALUE);
 	}
 
 	private void ageUp(int growthSeconds) {
@@ -211,10 +225,15 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 		}
 	}
 
+	/**
+	 * Sets how many ticks are left until the creepie grows up, as a negative number. Creepies don't use positive ages, so
+	 * those are treated as grown up.
+	 */
 	public void setGrowingAge(int age) {
-		int i = this.growingAge;
-		this.growingAge = age;
-		if (i < 0 && age >= 0) {
+		boolean wasBaby = !this.grownUp;
+		this.growUpTime = this.level.getGameTime() - Math.min(age, 0);
+		this.grownUp = age >= 0;
+		if (wasBaby && this.grownUp) {
 			this.startConversion(this.random.nextInt(80) + 160); //10 seconds before it converts
 		}
 	}
@@ -224,10 +243,12 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 	 */
 	protected void explode() {
 		if (!this.level.isClientSide()) {
-			Explosion.Mode mode = SRConfig.COMMON.creepieExplosionsDestroyBlocks.get() ? Explosion.Mode.DESTROY : Explosion.Mode.NONE;
 			float chargedModifier = this.isPowered() ? 2.0F : 1.0F;
 			this.dead = true;
-			this.level.explode(this, this.getX(), this.getY(), this.getZ(), this.explosionRadius * chargedModifier, mode);
+			if (SRConfig.common().creepieExplosionsDestroyBlocks)
+				this.level.explode(this, this.getX(), this.getY(), this.getZ(), this.explosionRadius * chargedModifier, Explosion.Mode.DESTROY);
+			else
+				ExplosionBatcher.queue((ServerWorld) this.level, this, this.getX(), this.getY(), this.getZ(), this.explosionRadius * chargedModifier);
 			this.remove();
 			this.spawnLingeringCloud();
 		}
@@ -244,17 +265,8 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 				this.forcedAgeTimer--;
 			}
 		}
-		if (this.isAlive()) {
-			int i = this.getGrowingAge();
-			if (i < 0) {
-				++i;
-				this.setGrowingAge(i);
-			} else if (i > 0) {
-				--i;
-				this.setGrowingAge(i);
-			}
-		}
-
+		if (!this.level.isClientSide() && this.isAlive() && !this.grownUp && this.level.getGameTime() >= this.growUpTime)
+			this.setGrowingAge(0);
 	}
 
 	@Override
@@ -277,6 +289,13 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 	 */
 	@Override
 	public void tick() {
+		if (!this.level.isClientSide()) {
+			long chunk = CreepieSpawnGovernor.chunkKey(this.getX(), this.getZ());
+			if (chunk != this.governedChunk) {
+				CreepieSpawnGovernor.onCreepieMoved(this, this.governedChunk, chunk);
+				this.governedChunk = chunk;
+			}
+		}
 		if (this.isAlive()) {
 			this.lastActiveTime = this.timeSinceIgnited;
 			if (this.hasIgnited()) {
@@ -300,8 +319,7 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 					this.playSound(SRSounds.ENTITY_CREEPIE_CONVERT.get(), 1.0F, 1.0F);
 					this.hasStartedConverting = false;
 				}
-				this.setConversionTime(this.getConversionTime() - 1);
-				if (this.getConversionTime() <= 0) {
+				if (!this.level.isClientSide() && this.getConversionTime() <= 0) {
 					this.finishConversion(this.level);
 				}
 				if (this.level.isClientSide()) {
@@ -312,6 +330,21 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 		super.tick();
 	}
 
+	@Override
+	public void onAddedToWorld() {
+		super.onAddedToWorld();
+		this.governedChunk = CreepieSpawnGovernor.chunkKey(this.getX(), this.getZ());
+		CreepieSpawnGovernor.onCreepieAdded(this, this.governedChunk);
+		OwnedMobRegistry.add(this, this.getOwnerId());
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		super.onRemovedFromWorld();
+		CreepieSpawnGovernor.onCreepieRemoved(this, this.governedChunk);
+		OwnedMobRegistry.remove(this, this.getOwnerId());
+	}
+
 	@Override
 	public boolean doHurtTarget(Entity entityIn) {
 		return true;
@@ -408,20 +441,15 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 
 	@Override
 	public void setOwnerId(@Nullable UUID ownerId) {
+		if (this.isAddedToWorld())
+			OwnedMobRegistry.changeOwner(this, this.getOwnerId(), ownerId);
 		this.entityData.set(OWNER_UUID, Optional.ofNullable(ownerId));
+		this.ownerCache.invalidate();
 	}
 
 	@Override
-	@Nullable
-	public LivingEntity getOwner() {
-		if (!this.level.isClientSide()) { //TODO: this is experimental, if anything breaks by being only on the client, a packet is needed
-			UUID uuid = this.getOwnerId();
-			if (uuid == null)
-				return null;
-			Entity entity = ((ServerWorld) this.level).getEntity(uuid);
-			return entity instanceof LivingEntity ? (LivingEntity) entity : null;
-		}
-		return null;
+	public OwnerCache getOwnerCache() {
+		return this.ownerCache;
 	}
 
 	@Override
@@ -443,20 +471,23 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 	}
 
 	public boolean isConverting() {
-		return this.getEntityData().get(CONVERSION_TIME) > -1;
+		return this.getEntityData().get(CONVERSION_END_TIME) != NOT_CONVERTING;
 	}
 
 	private void startConversion(int conversionTime) {
-		this.setConversionTime(conversionTime);
+		int endTime = (int) (this.level.getGameTime() + conversionTime);
+		this.entityData.set(CONVERSION_END_TIME, endTime == NOT_CONVERTING ? endTime + 1 : endTime);
 		hasStartedConverting = true; //Sound playing is done in tick because after summoning, this is called before the position is set
 	}
 
+	/**
+	 * @return the number of ticks left until the creepie converts, or -1 if it isn't converting.
+	 */
 	public int getConversionTime() {
-		return this.getEntityData().get(CONVERSION_TIME);
-	}
-
-	private void setConversionTime(int conversionTimeIn) {
-		this.entityData.set(CONVERSION_TIME, conversionTimeIn);
+		int endTime = this.getEntityData().get(CONVERSION_END_TIME);
+		if (endTime == NOT_CONVERTING)
+			return -1;
+		return Math.max(endTime - (int) this.level.getGameTime(), 0);
 	}
 
 	private LivingEntity finishConversion(World world) {
@@ -534,7 +565,7 @@ public class CreepieEntity extends MonsterEntity implements IChargeableMob, IOwn
 	@Override
 	public LivingEntity attemptAging(boolean isGrowing) {
 		if (isGrowing) {
-			this.growingAge = 0;
+			this.grownUp = true;
 			return this.finishConversion(this.level);
 		}
 		return this;
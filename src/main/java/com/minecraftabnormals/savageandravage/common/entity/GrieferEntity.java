@@ -1,6 +1,8 @@
 package com.minecraftabnormals.savageandravage.common.entity;
 
 import com.minecraftabnormals.savageandravage.common.item.CreeperSporesItem;
+import com.minecraftabnormals.savageandravage.core.other.CreepieSpawnGovernor;
+import com.minecraftabnormals.savageandravage.core.other.OwnedMobRegistry;
 import com.minecraftabnormals.savageandravage.core.registry.SRItems;
 import com.minecraftabnormals.savageandravage.core.registry.SRSounds;
 import net.minecraft.entity.*;
@@ -38,7 +40,6 @@ import java.util.EnumSet;
 public class GrieferEntity extends AbstractIllagerEntity implements IRangedAttackMob {
 	private static final DataParameter<Boolean> KICKING = EntityDataManager.defineId(GrieferEntity.class, DataSerializers.BOOLEAN);
 	private static final DataParameter<Boolean> APESHIT_MODE = EntityDataManager.defineId(GrieferEntity.class, DataSerializers.BOOLEAN);
-	private final EntityPredicate distance = (new EntityPredicate()).range(10.0D);
 
 	public GrieferEntity(EntityType<? extends GrieferEntity> type, World worldIn) {
 		super(type, worldIn);
@@ -230,7 +231,7 @@ public class GrieferEntity extends AbstractIllagerEntity implements IRangedAttac
 
 	@Override
 	public void performRangedAttack(LivingEntity target, float distanceFactor) {
-		if (this.level.getNearbyEntities(CreepieEntity.class, distance, this, this.getBoundingBox().inflate(10.0D, 4.0D, 10.0D)).size() < 5 && this.getMainHandItem().getItem() instanceof CreeperSporesItem) {
+		if (OwnedMobRegistry.count(this.level, this.getUUID()) < 5 && this.getMainHandItem().getItem() instanceof CreeperSporesItem && CreepieSpawnGovernor.canSpawn(this.level, target.getX(), target.getZ())) {
 			SporeCloudEntity creeperSpores = new SporeCloudEntity(this.level, this);
 			double distance = target.getY() - 1;
 			double d1 = target.getX() - this.getX();
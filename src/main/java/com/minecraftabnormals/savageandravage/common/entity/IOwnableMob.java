@@ -1,5 +1,6 @@
 package com.minecraftabnormals.savageandravage.common.entity;
 
+import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
 
 import javax.annotation.Nullable;
@@ -7,8 +8,19 @@ import java.util.UUID;
 
 public interface IOwnableMob {
 
+	/**
+	 * Gets the owner entity through the mob's {@link OwnerCache}, since this is called many times per tick while targeting.
+	 */
 	@Nullable
-	LivingEntity getOwner();
+	default LivingEntity getOwner() {
+		return this.getOwnerCache().get((Entity) this, this.getOwnerId());
+	}
+
+	/**
+	 * Gets the cache {@link #getOwner()} resolves the owner through. Implementations should invalidate it when the owner
+	 * id changes.
+	 */
+	OwnerCache getOwnerCache();
 
 	@Nullable
 	UUID getOwnerId();
@@ -8,7 +8,6 @@ import net.minecraft.block.SoundType;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.entity.projectile.ProjectileHelper;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.IPacket;
 import net.minecraft.network.PacketBuffer;
@@ -16,8 +15,10 @@ import net.minecraft.particles.BlockParticleData;
 import net.minecraft.particles.ParticleTypes;
 import net.minecraft.potion.EffectInstance;
 import net.minecraft.util.DamageSource;
+import net.minecraft.util.math.BlockRayTraceResult;
 import net.minecraft.util.math.EntityRayTraceResult;
 import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.math.RayTraceContext;
 import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
@@ -33,6 +34,7 @@ import java.util.UUID;
 public class IceChunkEntity extends Entity implements IEntityAdditionalSpawnData {
 
 	public static final int HOVER_TIME = 80;
+	public static final int FALL_TIME = HOVER_TIME + 20;
 	public static final int HOVER_DISTANCE = 3;
 
 	private UUID casterEntityUUID;
@@ -54,24 +56,58 @@ public class IceChunkEntity extends Entity implements IEntityAdditionalSpawnData
 	}
 
 	private void onImpact(RayTraceResult result) {
-		if (!this.level.isClientSide()) {
-			BlockState state = Blocks.PACKED_ICE.defaultBlockState();
-			SoundType soundtype = state.getSoundType(this.level, this.blockPosition(), null);
-			this.playSound(soundtype.getBreakSound(), (soundtype.getVolume() + 1.0F) / 2.0F, soundtype.getPitch() * 0.8F);
-			((ServerWorld) this.level).sendParticles(new BlockParticleData(ParticleTypes.BLOCK, state), this.getX(), this.getY() + this.getBbHeight() / 2.0, this.getZ(), 256, this.getBbWidth() / 2.0, this.getBbHeight() / 2.0, this.getBbWidth() / 2.0, 1);
-
-			if (result.getType() == RayTraceResult.Type.ENTITY) {
-				Entity entity = ((EntityRayTraceResult) result).getEntity();
-				entity.hurt(DamageSource.indirectMagic(this, this.getCaster()), 8.0f);
-				if (entity instanceof LivingEntity) {
-					((LivingEntity) entity).addEffect(new EffectInstance(SREffects.FROSTBITE.get(), 160, 0, false, false, true));
-				}
+		BlockState state = Blocks.PACKED_ICE.defaultBlockState();
+		SoundType soundtype = state.getSoundType(this.level, this.blockPosition(), null);
+		this.playSound(soundtype.getBreakSound(), (soundtype.getVolume() + 1.0F) / 2.0F, soundtype.getPitch() * 0.8F);
+		this.level.broadcastEntityEvent(this, (byte) 3);
+
+		if (result.getType() == RayTraceResult.Type.ENTITY) {
+			Entity entity = ((EntityRayTraceResult) result).getEntity();
+			entity.hurt(DamageSource.indirectMagic(this, this.getCaster()), 8.0f);
+			if (entity instanceof LivingEntity) {
+				((LivingEntity) entity).addEffect(new EffectInstance(SREffects.FROSTBITE.get(), 160, 0, false, false, true));
 			}
 		}
 
 		this.remove();
 	}
 
+	/**
+	 * Checks what the chunk would hit while falling this tick. Entities in the box swept by the chunk are hit first,
+	 * then blocks along its path.
+	 */
+	@Nullable
+	private RayTraceResult getFallingHitResult() {
+		Vector3d motion = this.getDeltaMovement();
+		Entity hit = null;
+		for (Entity entity : this.level.getEntities(this, this.getBoundingBox().expandTowards(motion), entity -> !entity.isSpectator() && entity.isAlive() && entity.isPickable() && !entity.noPhysics)) {
+			if (hit == null || entity.getBoundingBox().maxY > hit.getBoundingBox().maxY)
+				hit = entity;
+		}
+		if (hit != null)
+			return new EntityRayTraceResult(hit);
+
+		Vector3d start = this.position();
+		BlockRayTraceResult blockHit = this.level.clip(new RayTraceContext(start, start.add(motion), RayTraceContext.BlockMode.COLLIDER, RayTraceContext.FluidMode.NONE, this));
+		return blockHit.getType() != RayTraceResult.Type.MISS ? blockHit : null;
+	}
+
+	@Override
+	public void handleEntityEvent(byte id) {
+		if (id == 3) {
+			BlockParticleData particle = new BlockParticleData(ParticleTypes.BLOCK, Blocks.PACKED_ICE.defaultBlockState());
+			double y = this.getY() + this.getBbHeight() / 2.0;
+			for (int i = 0; i < 256; i++) {
+				double offsetX = this.random.nextGaussian() * this.getBbWidth() / 2.0;
+				double offsetY = this.random.nextGaussian() * this.getBbHeight() / 2.0;
+				double offsetZ = this.random.nextGaussian() * this.getBbWidth() / 2.0;
+				this.level.addParticle(particle, this.getX() + offsetX, y + offsetY, this.getZ() + offsetZ, this.random.nextGaussian(), this.random.nextGaussian(), this.random.nextGaussian());
+			}
+		} else {
+			super.handleEntityEvent(id);
+		}
+	}
+
 	@Nullable
 	public Entity getCaster() {
 		if (this.casterEntityUUID != null && this.level instanceof ServerWorld) {
@@ -100,6 +136,11 @@ public class IceChunkEntity extends Entity implements IEntityAdditionalSpawnData
 		this.targetEntityUUID = target == null ? null : target.getUUID();
 	}
 
+	/**
+	 * Both sides run the same hover and fall from the target and hover ticks sent in the spawn data, so the chunk's position
+	 * never has to be synced. Both sides follow the target every hover tick, so if the target goes away early the chunk
+	 * falls from the same place on both. Hits are only checked by the server, once the chunk is falling.
+	 */
 	@Override
 	public void tick() {
 		super.tick();
@@ -110,20 +151,23 @@ public class IceChunkEntity extends Entity implements IEntityAdditionalSpawnData
 			if (target != null) {
 				this.setPos(target.getX(), target.getY(1) + HOVER_DISTANCE, target.getZ());
 			}
-		} else if (this.hoverTicks >= HOVER_TIME + 20) {
+		} else if (this.hoverTicks >= FALL_TIME) {
 			if (target != null)
 				this.setDeltaMovement(Vector3d.ZERO);
 			this.setTarget(null);
 		}
 
-		RayTraceResult raytraceresult = ProjectileHelper.getHitResult(this, entity -> !entity.isSpectator() && entity.isAlive() && entity.isPickable() && !entity.noPhysics);
-		if (raytraceresult.getType() != RayTraceResult.Type.MISS) {
-			this.onImpact(raytraceresult);
-		}
-
 		if (target == null) {
 			this.setDeltaMovement(this.getDeltaMovement().add(0, -0.05, 0));
 
+			if (!this.level.isClientSide()) {
+				RayTraceResult result = this.getFallingHitResult();
+				if (result != null) {
+					this.onImpact(result);
+					return;
+				}
+			}
+
 			this.setPos(this.getX() + this.getDeltaMovement().x(), this.getY() + this.getDeltaMovement().y(), this.getZ() + this.getDeltaMovement().z());
 		}
 	}
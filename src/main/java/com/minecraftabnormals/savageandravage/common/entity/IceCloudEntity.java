@@ -11,13 +11,13 @@ import net.minecraft.network.IPacket;
 import net.minecraft.particles.IParticleData;
 import net.minecraft.potion.EffectInstance;
 import net.minecraft.world.World;
-import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.fml.network.NetworkHooks;
 
 /**
  * @author Ocelot
  */
 public class IceCloudEntity extends DamagingProjectileEntity {
+	private static final int FROSTBITE_INTERVAL = 5;
 
 	public IceCloudEntity(EntityType<IceCloudEntity> entityType, World world) {
 		super(entityType, world);
@@ -31,20 +31,32 @@ public class IceCloudEntity extends DamagingProjectileEntity {
 	public void tick() {
 		super.tick();
 
-		for (Entity entity : this.level.getEntities(this.getOwner(), this.getBoundingBox().expandTowards(2, 2, 2), this::canHitEntity)) {
-			if (entity instanceof LivingEntity && !(entity instanceof IceologerEntity)) {
-				((LivingEntity) entity).addEffect(new EffectInstance(SREffects.FROSTBITE.get(), 80, 0, false, false, true));
+		if (this.level.isClientSide()) {
+			this.spawnCloudParticles();
+		} else if (this.tickCount % FROSTBITE_INTERVAL == 0) {
+			for (Entity entity : this.level.getEntities(this.getOwner(), this.getBoundingBox().expandTowards(2, 2, 2), this::canHitEntity)) {
+				if (entity instanceof LivingEntity && !(entity instanceof IceologerEntity)) {
+					((LivingEntity) entity).addEffect(new EffectInstance(SREffects.FROSTBITE.get(), 80, 0, false, false, true));
+				}
 			}
 		}
 
-		if (!this.level.isClientSide()) {
-			((ServerWorld) this.level).sendParticles(this.getTrailParticle(), this.getX(), this.getY(), this.getZ(), 30, 1.5, 1.5, 1.5, 1);
-		}
-
 		if (this.tickCount > 100)
 			this.remove();
 	}
 
+	/**
+	 * Spawns the cloud's particles on the client, spread the same way the server used to send them.
+	 */
+	private void spawnCloudParticles() {
+		for (int i = 0; i < 30; i++) {
+			double x = this.getX() + this.random.nextGaussian() * 1.5D;
+			double y = this.getY() + this.random.nextGaussian() * 1.5D;
+			double z = this.getZ() + this.random.nextGaussian() * 1.5D;
+			this.level.addParticle(this.getTrailParticle(), x, y, z, this.random.nextGaussian(), this.random.nextGaussian(), this.random.nextGaussian());
+		}
+	}
+
 	@Override
 	protected boolean shouldBurn() {
 		return false;
@@ -17,7 +17,6 @@ import net.minecraft.util.DamageSource;
 import net.minecraft.util.SoundEvent;
 import net.minecraft.util.SoundEvents;
 import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
@@ -39,15 +38,6 @@ public class IceologerEntity extends SpellcastingIllagerEntity {
 	private UUID iceChunkEntityUUID;
 	private int iceChunkEntity;
 
-	public double prevChasingPosX;
-	public double prevChasingPosY;
-	public double prevChasingPosZ;
-	public double chasingPosX;
-	public double chasingPosY;
-	public double chasingPosZ;
-	public float prevCameraYaw;
-	public float cameraYaw;
-
 	public IceologerEntity(EntityType<IceologerEntity> type, World world) {
 		super(type, world);
 	}
@@ -73,68 +63,6 @@ public class IceologerEntity extends SpellcastingIllagerEntity {
 		return LivingEntity.createLivingAttributes().add(Attributes.FOLLOW_RANGE, 16.0D).add(Attributes.ATTACK_KNOCKBACK);
 	}
 
-	private void updateCape() {
-		this.prevChasingPosX = this.chasingPosX;
-		this.prevChasingPosY = this.chasingPosY;
-		this.prevChasingPosZ = this.chasingPosZ;
-		double d0 = this.getX() - this.chasingPosX;
-		double d1 = this.getY() - this.chasingPosY;
-		double d2 = this.getZ() - this.chasingPosZ;
-		if (d0 > 10.0D) {
-			this.chasingPosX = this.getX();
-//            this.prevChasingPosX = this.chasingPosX;
-		}
-
-		if (d2 > 10.0D) {
-			this.chasingPosZ = this.getZ();
-//            this.prevChasingPosZ = this.chasingPosZ;
-		}
-
-		if (d1 > 10.0D) {
-			this.chasingPosY = this.getY();
-//            this.prevChasingPosY = this.chasingPosY;
-		}
-
-		if (d0 < -10.0D) {
-			this.chasingPosX = this.getX();
-//            this.prevChasingPosX = this.chasingPosX;
-		}
-
-		if (d2 < -10.0D) {
-			this.chasingPosZ = this.getZ();
-//            this.prevChasingPosZ = this.chasingPosZ;
-		}
-
-		if (d1 < -10.0D) {
-			this.chasingPosY = this.getY();
-//            this.prevChasingPosY = this.chasingPosY;
-		}
-
-		this.chasingPosX += d0 * 0.25D;
-		this.chasingPosZ += d2 * 0.25D;
-		this.chasingPosY += d1 * 0.25D;
-	}
-
-	@Override
-	public void tick() {
-		super.tick();
-		this.updateCape();
-	}
-
-	@Override
-	public void aiStep() {
-		super.aiStep();
-
-		this.prevCameraYaw = this.cameraYaw;
-		float f;
-		if (this.onGround && !this.isDeadOrDying() && !this.isSwimming()) {
-			f = Math.min(0.1F, MathHelper.sqrt(getHorizontalDistanceSqr(this.getDeltaMovement())));
-		} else {
-			f = 0.0F;
-		}
-		this.cameraYaw += (f - this.cameraYaw) * 0.4F;
-	}
-
 	@Override
 	public void applyRaidBuffs(int wave, boolean p_213660_2_) {
 	}
@@ -1,5 +1,6 @@
 package com.minecraftabnormals.savageandravage.common.entity;
 
+import com.minecraftabnormals.savageandravage.core.other.CreepieSpawnGovernor;
 import com.minecraftabnormals.savageandravage.core.registry.SREntities;
 import com.minecraftabnormals.savageandravage.core.registry.SRItems;
 import com.minecraftabnormals.savageandravage.core.registry.SRParticles;
@@ -42,7 +43,7 @@ public class MischiefArrowEntity extends AbstractArrowEntity {
 		if (!finished) {
 			this.pickup = PickupStatus.DISALLOWED;
 
-			CreepieEntity creepie = SREntities.CREEPIE.get().create(level);
+			CreepieEntity creepie = CreepieSpawnGovernor.canSpawn(this.level, this.getX(), this.getZ()) ? SREntities.CREEPIE.get().create(level) : null;
 			if (creepie != null) {
 				creepie.moveTo(this.getX(), this.getY(), this.getZ(), 0.0F, 0.0F);
 
@@ -62,6 +63,8 @@ public class MischiefArrowEntity extends AbstractArrowEntity {
 	protected void onHitEntity(EntityRayTraceResult result) {
 		super.onHitEntity(result);
 		if (!finished) {
+			if (!CreepieSpawnGovernor.canSpawn(this.level, this.getX(), this.getZ()))
+				return;
 			CreepieEntity creepie = SREntities.CREEPIE.get().create(level);
 			if (creepie == null)
 				return;
@@ -0,0 +1,41 @@
+package com.minecraftabnormals.savageandravage.common.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.world.server.ServerWorld;
+
+import javax.annotation.Nullable;
+import java.lang.ref.WeakReference;
+import java.util.UUID;
+
+/**
+ * Remembers the owner an {@link IOwnableMob} last resolved. The cached entity is used for as long as it still has the
+ * owner's UUID and is in the mob's world, and a missing owner is looked up by UUID at most once per tick.
+ */
+public class OwnerCache {
+	private WeakReference<LivingEntity> owner = new WeakReference<>(null);
+	private long lastLookupTime = Long.MIN_VALUE;
+
+	@Nullable
+	public LivingEntity get(Entity mob, @Nullable UUID ownerId) {
+		if (ownerId == null || !(mob.level instanceof ServerWorld))
+			return null;
+		LivingEntity cached = this.owner.get();
+		if (cached != null && !cached.removed && cached.level == mob.level && ownerId.equals(cached.getUUID()))
+			return cached;
+
+		long gameTime = mob.level.getGameTime();
+		if (gameTime == this.lastLookupTime)
+			return null;
+		this.lastLookupTime = gameTime;
+		Entity entity = ((ServerWorld) mob.level).getEntity(ownerId);
+		LivingEntity resolved = entity instanceof LivingEntity ? (LivingEntity) entity : null;
+		this.owner = new WeakReference<>(resolved);
+		return resolved;
+	}
+
+	public void invalidate() {
+		this.owner = new WeakReference<>(null);
+		this.lastLookupTime = Long.MIN_VALUE;
+	}
+}
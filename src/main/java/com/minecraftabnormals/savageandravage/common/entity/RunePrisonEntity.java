@@ -4,7 +4,6 @@ import com.minecraftabnormals.savageandravage.common.block.RunedGloomyTilesBlock
 import com.minecraftabnormals.savageandravage.core.registry.SRBlocks;
 import com.minecraftabnormals.savageandravage.core.registry.SREffects;
 import com.minecraftabnormals.savageandravage.core.registry.SREntities;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.nbt.CompoundNBT;
@@ -13,6 +12,7 @@ import net.minecraft.network.IPacket;
 import net.minecraft.network.datasync.DataParameter;
 import net.minecraft.network.datasync.DataSerializers;
 import net.minecraft.network.datasync.EntityDataManager;
+import net.minecraft.potion.Effect;
 import net.minecraft.potion.EffectInstance;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.World;
@@ -22,9 +22,11 @@ import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Optional;
 
-public class RunePrisonEntity extends Entity {
-	private static final DataParameter<Integer> TICKS_TILL_REMOVE = EntityDataManager.defineId(RunePrisonEntity.class, DataSerializers.INT);
+public class RunePrisonEntity extends TimedEffectEntity {
 	private static final DataParameter<Optional<BlockPos>> BLOCK_POS = EntityDataManager.defineId(RunePrisonEntity.class, DataSerializers.OPTIONAL_BLOCK_POS);
+	private static final int OCCUPANCY_INTERVAL = 5;
+	private static final int WEIGHT_DURATION = 20;
+	private static final int WEIGHT_AMPLIFIER = 2;
 	private int currentFrame = 0;
 	private boolean isBackwardsFrameCycle = false;
 
@@ -40,13 +42,13 @@ public class RunePrisonEntity extends Entity {
 
 	@Override
 	protected void defineSynchedData() {
+		super.defineSynchedData();
 		this.entityData.define(BLOCK_POS, Optional.empty());
-		this.entityData.define(TICKS_TILL_REMOVE, 0);
 	}
 
 	@Override
 	protected void readAdditionalSaveData(CompoundNBT compound) {
-		this.setTicksTillRemove(compound.getInt("TicksTillRemove"));
+		super.readAdditionalSaveData(compound);
 		if (compound.contains("GloomyTilePosition", 10)) {
 			this.setBlockPos(NBTUtil.readBlockPos(compound.getCompound("GloomyTilePosition")));
 		}
@@ -54,20 +56,12 @@ public class RunePrisonEntity extends Entity {
 
 	@Override
 	protected void addAdditionalSaveData(CompoundNBT compound) {
-		compound.putInt("TicksTillRemove", this.getTicksTillRemove());
+		super.addAdditionalSaveData(compound);
 		if (this.getBlockPos() != null) {
 			compound.put("GloomyTilePosition", NBTUtil.writeBlockPos(this.getBlockPos()));
 		}
 	}
 
-	public int getTicksTillRemove() {
-		return this.entityData.get(TICKS_TILL_REMOVE);
-	}
-
-	public void setTicksTillRemove(int tickCount) {
-		this.entityData.set(TICKS_TILL_REMOVE, tickCount);
-	}
-
 	@Nullable
 	public BlockPos getBlockPos() {
 		return this.entityData.get(BLOCK_POS).orElse(null);
@@ -95,18 +89,12 @@ public class RunePrisonEntity extends Entity {
 			}
 		}
 
-		if (getTicksTillRemove() > 0) {
-			setTicksTillRemove(getTicksTillRemove() - 1);
-		}
+		int ticksRemaining = this.tickTimer();
 
-		List<LivingEntity> intersectingEntityList = this.level.getEntitiesOfClass(LivingEntity.class, this.getBoundingBox());
-		for (LivingEntity livingEntity : intersectingEntityList) {
-			if (livingEntity.isAffectedByPotions() && RunedGloomyTilesBlock.shouldTrigger(livingEntity)) {
-				livingEntity.addEffect(new EffectInstance(SREffects.WEIGHT.get(), 20, 2));
-			}
-		}
+		if (!this.level.isClientSide() && (this.tickCount == 1 || this.level.getGameTime() % OCCUPANCY_INTERVAL == 0))
+			this.applyWeight();
 
-		if (this.getTicksTillRemove() == 0) {
+		if (ticksRemaining == 0) {
 			this.remove();
 
 			BlockPos pos = this.getBlockPos();
@@ -118,6 +106,24 @@ public class RunePrisonEntity extends Entity {
 		}
 	}
 
+	/**
+	 * Weighs down the entities inside the prison. This only runs every few ticks, lined up on game time so overlapping
+	 * prisons check on the same tick, and an entity that is still weighed down for longer than the interval is skipped,
+	 * so it only gets a new effect once per interval however many prisons it is standing in.
+	 */
+	private void applyWeight() {
+		Effect weight = SREffects.WEIGHT.get();
+		List<LivingEntity> intersectingEntityList = this.level.getEntitiesOfClass(LivingEntity.class, this.getBoundingBox());
+		for (LivingEntity livingEntity : intersectingEntityList) {
+			EffectInstance current = livingEntity.getEffect(weight);
+			if (current != null && current.getAmplifier() >= WEIGHT_AMPLIFIER && current.getDuration() > OCCUPANCY_INTERVAL)
+				continue;
+			if (livingEntity.isAffectedByPotions() && RunedGloomyTilesBlock.shouldTrigger(livingEntity)) {
+				livingEntity.addEffect(new EffectInstance(weight, WEIGHT_DURATION, WEIGHT_AMPLIFIER));
+			}
+		}
+	}
+
 	public int getCurrentFrame() {
 		return this.currentFrame;
 	}
@@ -0,0 +1,36 @@
+package com.minecraftabnormals.savageandravage.common.entity;
+
+import net.minecraft.entity.AreaEffectCloudEntity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+
+/**
+ * Picks random positions inside an {@link AreaEffectCloudEntity} where an entity of the given type would not be inside
+ * a suffocating block, using only the type's dimensions so no entity has to be created until a position is accepted.
+ * The type's dimensions have to be the box the spawned entity really has. This holds for creepies, which are registered
+ * at their small size and never scale it as babies.
+ */
+public class SpawnSiteSampler {
+	private final EntityType<?> type;
+	private final int attempts;
+	private final CollisionProbe probe = new CollisionProbe();
+
+	public SpawnSiteSampler(EntityType<?> type, int attempts) {
+		this.type = type;
+		this.attempts = attempts;
+	}
+
+	@Nullable
+	public Vector3d sample(World world, AreaEffectCloudEntity cloud) {
+		for (int i = 0; i < this.attempts; i++) {
+			double x = cloud.getRandomX(0.1D);
+			double z = cloud.getRandomZ(0.2D);
+			if (this.probe.isFree(world, this.type.getAABB(x, cloud.getY(), z)))
+				return new Vector3d(x, cloud.getY(), z);
+		}
+		return null;
+	}
+}
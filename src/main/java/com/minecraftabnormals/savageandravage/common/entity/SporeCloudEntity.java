@@ -1,7 +1,10 @@
 package com.minecraftabnormals.savageandravage.common.entity;
 
+import com.minecraftabnormals.savageandravage.core.other.CreepieSpawnGovernor;
 import com.minecraftabnormals.savageandravage.core.registry.SREntities;
 import com.minecraftabnormals.savageandravage.core.registry.SRParticles;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import net.minecraft.block.material.PushReaction;
 import net.minecraft.entity.AreaEffectCloudEntity;
 import net.minecraft.entity.Entity;
@@ -11,23 +14,27 @@ import net.minecraft.entity.projectile.ThrowableEntity;
 import net.minecraft.nbt.CompoundNBT;
 import net.minecraft.network.IPacket;
 import net.minecraft.network.PacketBuffer;
-import net.minecraft.util.math.AxisAlignedBB;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.math.SectionPos;
 import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.IWorld;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.fml.common.registry.IEntityAdditionalSpawnData;
 import net.minecraftforge.fml.network.NetworkHooks;
 
 import javax.annotation.Nullable;
-import java.util.UUID;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SporeCloudEntity extends ThrowableEntity implements IEntityAdditionalSpawnData {
+	private static final int CLOUD_WAIT_TIME = 20;
+	private static final Map<IWorld, Long2ObjectMap<List<SporeCloudEntity>>> LANDED_CLOUDS = new ConcurrentHashMap<>();
 
-	private AreaEffectCloudEntity cloudEntity;
+	private WeakReference<AreaEffectCloudEntity> cloudEntity = new WeakReference<>(null);
 	private UUID cloudId;
+	private SpawnSiteSampler spawnSiteSampler;
 
 	private int cloudSize;
 	private boolean charged = false;
@@ -52,30 +59,125 @@ public class SporeCloudEntity extends ThrowableEntity implements IEntityAddition
 			return;
 
 		this.setPos(x, y, z);
+		SporeCloudEntity existing = this.findCloudToMergeWith();
+		if (existing != null) {
+			existing.mergeFrom(this);
+			this.remove();
+			return;
+		}
+
 		AreaEffectCloudEntity aoe = new AreaEffectCloudEntity(this.level, x, y, z);
 		Entity thrower = this.getOwner();
 		if (thrower instanceof LivingEntity)
 			aoe.setOwner((LivingEntity) thrower);
 		aoe.setParticle(SRParticles.CREEPER_SPORES.get());
-		aoe.setRadius(this.cloudSize + 1.3F);
+		aoe.setRadius(this.getCloudRadius());
 		aoe.setRadiusOnUse(-0.05F);
-		aoe.setDuration((this.cloudSize * 20) + 60);
+		aoe.setWaitTime(CLOUD_WAIT_TIME);
+		aoe.setDuration(this.getCloudDuration());
 		aoe.setRadiusPerTick(-aoe.getRadius() / (float) aoe.getDuration());
 		this.level.addFreshEntity(aoe);
 		this.setCloudEntity(aoe);
+		this.addToSection();
 		this.level.broadcastEntityEvent(this, (byte) 3);
 	}
 
+	private float getCloudRadius() {
+		return this.cloudSize + 1.3F;
+	}
+
+	private int getCloudDuration() {
+		return (this.cloudSize * 20) + 60;
+	}
+
+	/**
+	 * Finds a cloud in the same chunk section that this one has landed inside of and that would spawn the same kind of
+	 * creepies, so that this cloud can be merged into it instead of adding another cloud on top.
+	 */
+	@Nullable
+	private SporeCloudEntity findCloudToMergeWith() {
+		Long2ObjectMap<List<SporeCloudEntity>> sections = LANDED_CLOUDS.get(this.level);
+		List<SporeCloudEntity> clouds = sections == null ? null : sections.get(SectionPos.of(this).asLong());
+		if (clouds == null)
+			return null;
+		for (SporeCloudEntity cloud : clouds) {
+			AreaEffectCloudEntity aoe = cloud.getCloudEntity();
+			if (cloud != this && cloud.isAlive() && aoe != null && aoe.isAlive() && cloud.creepiesAttackPlayersOnly == this.creepiesAttackPlayersOnly && Objects.equals(cloud.getOwner(), this.getOwner())) {
+				double dx = this.getX() - aoe.getX();
+				double dz = this.getZ() - aoe.getZ();
+				if (dx * dx + dz * dz <= aoe.getRadius() * aoe.getRadius())
+					return cloud;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Grows this cloud to cover the size and duration of the given cloud, which has not spawned its own cloud entity.
+	 */
+	private void mergeFrom(SporeCloudEntity other) {
+		AreaEffectCloudEntity aoe = this.getCloudEntity();
+		if (aoe == null)
+			return;
+		this.cloudSize = Math.max(this.cloudSize, other.cloudSize);
+		this.charged |= other.charged;
+		int remaining = Math.max(CLOUD_WAIT_TIME + aoe.getDuration() - aoe.tickCount, other.getCloudDuration());
+		float radius = Math.max(aoe.getRadius(), other.getCloudRadius());
+		aoe.setDuration(aoe.tickCount - CLOUD_WAIT_TIME + remaining);
+		aoe.setRadius(radius);
+		aoe.setRadiusPerTick(-radius / (float) remaining);
+	}
+
+	private void addToSection() {
+		if (!this.level.isClientSide())
+			LANDED_CLOUDS.computeIfAbsent(this.level, world -> new Long2ObjectOpenHashMap<>()).computeIfAbsent(SectionPos.of(this).asLong(), section -> new ArrayList<>()).add(this);
+	}
+
+	@Override
+	public void onAddedToWorld() {
+		super.onAddedToWorld();
+		if (this.cloudId != null)
+			this.addToSection();
+	}
+
+	@Override
+	public void onRemovedFromWorld() {
+		super.onRemovedFromWorld();
+		if (!this.level.isClientSide()) {
+			Long2ObjectMap<List<SporeCloudEntity>> sections = LANDED_CLOUDS.get(this.level);
+			if (sections == null)
+				return;
+			long section = SectionPos.of(this).asLong();
+			List<SporeCloudEntity> clouds = sections.get(section);
+			if (clouds != null && clouds.remove(this) && clouds.isEmpty())
+				sections.remove(section);
+		}
+	}
+
+	public static void clearLandedClouds(IWorld world) {
+		LANDED_CLOUDS.remove(world);
+	}
+
 	public void setCloudEntity(@Nullable AreaEffectCloudEntity entity) {
-		this.cloudEntity = entity;
+		this.cloudEntity = new WeakReference<>(entity);
 		this.cloudId = entity == null ? null : entity.getUUID();
 	}
 
+	/**
+	 * Returns the cloud entity this spore cloud is tied to. The entity is held directly while it is alive and in the same
+	 * world, and is only looked up by its UUID again after it was unloaded or changed dimension.
+	 */
 	@Nullable
 	private AreaEffectCloudEntity getCloudEntity() {
+		AreaEffectCloudEntity cloud = this.cloudEntity.get();
+		if (cloud != null && cloud.isAlive() && cloud.level == this.level)
+			return cloud;
 		if (this.cloudId != null && this.level instanceof ServerWorld) {
 			Entity entity = ((ServerWorld) this.level).getEntity(this.cloudId);
-			return entity instanceof AreaEffectCloudEntity ? (AreaEffectCloudEntity) entity : null;
+			if (entity instanceof AreaEffectCloudEntity) {
+				this.cloudEntity = new WeakReference<>((AreaEffectCloudEntity) entity);
+				return (AreaEffectCloudEntity) entity;
+			}
 		}
 		return null;
 	}
@@ -138,52 +240,43 @@ public class SporeCloudEntity extends ThrowableEntity implements IEntityAddition
 		} else if (this.cloudId != null) {
 			AreaEffectCloudEntity aoe = this.getCloudEntity();
 			if (aoe == null) {
-				if (this.cloudEntity == null || !this.cloudEntity.isAlive())
+				AreaEffectCloudEntity cloud = this.cloudEntity.get();
+				if (cloud == null || !cloud.isAlive())
 					this.remove();
 				return;
 			}
 
-			CreepieEntity creepie = SREntities.CREEPIE.get().create(this.level);
-			if (creepie != null) {
-				if (this.charged) {
-					creepie.setCharged(true);
-				}
-				creepie.attackPlayersOnly = this.creepiesAttackPlayersOnly();
-				if (!creepie.attackPlayersOnly) creepie.setPersistenceRequired();
-				Entity thrower = this.getOwner();
-				if (thrower instanceof LivingEntity && !(thrower.isInvisible()))
-					creepie.setOwnerId(thrower.getUUID());
-				BlockPos nextPosition = null;
-				if (aoe.tickCount % 20 == 0) {
-					for (int i = 0; i < 10; i++) {
-						double xPos = aoe.getRandomX(0.1D);
-						double zPos = aoe.getRandomZ(0.2D);
-						creepie.moveTo(xPos, aoe.getY(), zPos, 0.0F, 0.0F);
-						AxisAlignedBB box = creepie.getBoundingBox();
-						if (BlockPos.betweenClosedStream(MathHelper.floor(box.minX), MathHelper.floor(box.minY), MathHelper.floor(box.minZ), MathHelper.ceil(box.maxX), MathHelper.ceil(box.maxY), MathHelper.ceil(box.maxZ)).distinct().noneMatch(pos -> {
-							if (this.level.getBlockState(pos).isSuffocating(this.level, pos)) {
-								for (AxisAlignedBB blockBox : this.level.getBlockState(pos).getShape(this.level, pos).toAabbs()) {
-									blockBox = new AxisAlignedBB(blockBox.minX + pos.getX(), blockBox.minY + pos.getY(), blockBox.minZ + pos.getZ(), blockBox.maxX + pos.getX(), blockBox.maxY + pos.getY(), blockBox.maxZ + pos.getZ());
-									if (blockBox.intersects(creepie.getBoundingBox())) {
-										return true;
-									}
-								}
-							}
-							return false;
-						})) {
-							nextPosition = new BlockPos(xPos, aoe.getY(), zPos);
-							break;
-						}
-					}
-					if (nextPosition != null) {
-						this.level.addFreshEntity(creepie);
-					}
-				}
-
-				if (!aoe.isAlive())
-					this.remove();
+			if (aoe.tickCount % 20 == 0 && CreepieSpawnGovernor.canSpawn(this.level, aoe.getX(), aoe.getZ())) {
+				Vector3d spawnPos = this.getSpawnSiteSampler().sample(this.level, aoe);
+				if (spawnPos != null)
+					this.spawnCreepie(spawnPos);
 			}
+
+			if (!aoe.isAlive())
+				this.remove();
+		}
+	}
+
+	private SpawnSiteSampler getSpawnSiteSampler() {
+		if (this.spawnSiteSampler == null)
+			this.spawnSiteSampler = new SpawnSiteSampler(SREntities.CREEPIE.get(), 10);
+		return this.spawnSiteSampler;
+	}
+
+	private void spawnCreepie(Vector3d pos) {
+		CreepieEntity creepie = SREntities.CREEPIE.get().create(this.level);
+		if (creepie == null)
+			return;
+		if (this.charged) {
+			creepie.setCharged(true);
 		}
+		creepie.attackPlayersOnly = this.creepiesAttackPlayersOnly();
+		if (!creepie.attackPlayersOnly) creepie.setPersistenceRequired();
+		Entity thrower = this.getOwner();
+		if (thrower instanceof LivingEntity && !(thrower.isInvisible()))
+			creepie.setOwnerId(thrower.getUUID());
+		creepie.moveTo(pos.x(), pos.y(), pos.z(), 0.0F, 0.0F);
+		this.level.addFreshEntity(creepie);
 	}
 
 	@Override
@@ -0,0 +1,74 @@
+package com.minecraftabnormals.savageandravage.common.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.nbt.CompoundNBT;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.network.datasync.DataParameter;
+import net.minecraft.network.datasync.DataSerializers;
+import net.minecraft.network.datasync.EntityDataManager;
+import net.minecraft.world.World;
+import net.minecraftforge.fml.common.registry.IEntityAdditionalSpawnData;
+
+/**
+ * An entity that lasts for a set number of ticks. Its age and the age it ends at are sent once in the spawn data and each
+ * side counts the ticks itself from there, so the end age is only synced again when the remaining time is changed.
+ */
+public abstract class TimedEffectEntity extends Entity implements IEntityAdditionalSpawnData {
+	private static final DataParameter<Integer> END_AGE = EntityDataManager.defineId(TimedEffectEntity.class, DataSerializers.INT);
+	/**
+	 * Ticks counted by {@link #tickTimer()}. This is kept apart from {@link #tickCount} because that is not sent to
+	 * clients and only advances for subclasses that call {@link Entity#tick()}, which burning banners don't.
+	 */
+	private int age;
+
+	protected TimedEffectEntity(EntityType<?> type, World world) {
+		super(type, world);
+	}
+
+	@Override
+	protected void defineSynchedData() {
+		this.entityData.define(END_AGE, 0);
+	}
+
+	/**
+	 * Counts one tick of the entity's lifetime.
+	 *
+	 * @return the ticks left after this one.
+	 */
+	protected int tickTimer() {
+		this.age++;
+		return this.getTicksTillRemove();
+	}
+
+	public int getTicksTillRemove() {
+		return Math.max(0, this.entityData.get(END_AGE) - this.age);
+	}
+
+	public void setTicksTillRemove(int tickCount) {
+		this.entityData.set(END_AGE, this.age + tickCount);
+	}
+
+	@Override
+	protected void readAdditionalSaveData(CompoundNBT compound) {
+		this.age = 0;
+		this.setTicksTillRemove(compound.getInt("TicksTillRemove"));
+	}
+
+	@Override
+	protected void addAdditionalSaveData(CompoundNBT compound) {
+		compound.putInt("TicksTillRemove", this.getTicksTillRemove());
+	}
+
+	@Override
+	public void writeSpawnData(PacketBuffer buf) {
+		buf.writeVarInt(this.age);
+		buf.writeVarInt(this.entityData.get(END_AGE));
+	}
+
+	@Override
+	public void readSpawnData(PacketBuffer buf) {
+		this.age = buf.readVarInt();
+		this.entityData.set(END_AGE, buf.readVarInt());
+	}
+}
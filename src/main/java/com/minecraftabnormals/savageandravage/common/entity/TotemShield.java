@@ -0,0 +1,77 @@
+package com.minecraftabnormals.savageandravage.common.entity;
+
+import com.minecraftabnormals.abnormals_core.common.world.storage.tracking.IDataManager;
+import com.minecraftabnormals.savageandravage.core.registry.SREntities;
+import net.minecraft.entity.LivingEntity;
+
+/**
+ * Totem shields and their cooldowns are stored as the game time they end at, so nothing has to count them down each tick.
+ */
+public final class TotemShield {
+	public static final int SHIELD_DURATION = 600;
+	public static final int COOLDOWN_DURATION = 1800;
+
+	private TotemShield() {
+	}
+
+	public static int getShieldTime(LivingEntity entity) {
+		return remaining(entity, ((IDataManager) entity).getValue(SREntities.TOTEM_SHIELD_END_TIME));
+	}
+
+	public static int getCooldown(LivingEntity entity) {
+		return remaining(entity, ((IDataManager) entity).getValue(SREntities.TOTEM_SHIELD_COOLDOWN_END_TIME));
+	}
+
+	public static boolean isShielded(LivingEntity entity) {
+		return getShieldTime(entity) > 0;
+	}
+
+	/**
+	 * Raises a shield that lasts {@link #SHIELD_DURATION} ticks, followed by a {@link #COOLDOWN_DURATION} tick cooldown.
+	 */
+	public static void activate(LivingEntity entity) {
+		IDataManager data = (IDataManager) entity;
+		long shieldEnd = entity.level.getGameTime() + SHIELD_DURATION;
+		data.setValue(SREntities.TOTEM_SHIELD_END_TIME, shieldEnd);
+		data.setValue(SREntities.TOTEM_SHIELD_COOLDOWN_END_TIME, shieldEnd + COOLDOWN_DURATION);
+	}
+
+	/**
+	 * Starts a cooldown that never ends, for tricksters, which only survive a killing projectile once.
+	 */
+	public static void startPermanentCooldown(LivingEntity entity) {
+		((IDataManager) entity).setValue(SREntities.TOTEM_SHIELD_COOLDOWN_END_TIME, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Converts the tick counters saved by older versions into end times. Older versions never counted trickster cooldowns
+	 * down, so those stay permanent.
+	 */
+	@SuppressWarnings("deprecation")
+	public static void convertLegacyTimers(LivingEntity entity) {
+		IDataManager data = (IDataManager) entity;
+		int shieldTime = data.getValue(SREntities.LEGACY_TOTEM_SHIELD_TIME);
+		int cooldown = data.getValue(SREntities.LEGACY_TOTEM_SHIELD_COOLDOWN);
+		if (shieldTime < 0 && cooldown <= 0)
+			return;
+
+		long gameTime = entity.level.getGameTime();
+		long cooldownEnd = gameTime + Math.max(cooldown, 0);
+		if (shieldTime > 0) {
+			data.setValue(SREntities.TOTEM_SHIELD_END_TIME, gameTime + shieldTime);
+			cooldownEnd = Math.max(cooldownEnd, gameTime + shieldTime + COOLDOWN_DURATION);
+		} else if (shieldTime == 0) {
+			cooldownEnd = Math.max(cooldownEnd, gameTime + COOLDOWN_DURATION);
+		}
+		if (entity instanceof TricksterEntity && cooldown > 0)
+			cooldownEnd = Long.MAX_VALUE;
+		data.setValue(SREntities.TOTEM_SHIELD_COOLDOWN_END_TIME, cooldownEnd);
+		data.setValue(SREntities.LEGACY_TOTEM_SHIELD_TIME, -1);
+		data.setValue(SREntities.LEGACY_TOTEM_SHIELD_COOLDOWN, 0);
+	}
+
+	private static int remaining(LivingEntity entity, long endTime) {
+		long remaining = endTime - entity.level.getGameTime();
+		return remaining > 0 ? (int) Math.min(remaining, Integer.MAX_VALUE) : 0;
+	}
+}
@@ -1,7 +1,5 @@
 package com.minecraftabnormals.savageandravage.common.entity;
 
-import com.minecraftabnormals.abnormals_core.common.world.storage.tracking.IDataManager;
-import com.minecraftabnormals.savageandravage.core.registry.SREntities;
 import com.minecraftabnormals.savageandravage.core.registry.SRItems;
 import com.minecraftabnormals.savageandravage.core.registry.SRParticles;
 import com.minecraftabnormals.savageandravage.core.registry.SRSounds;
@@ -58,31 +56,31 @@ public class TricksterEntity extends SpellcastingIllagerEntity {
         this.goalSelector.addGoal(1, new AvoidEntityGoal<PlayerEntity>(this, PlayerEntity.class, 8.0F, 0.6D, 1.0D) {
             @Override
             public boolean canUse() {
-                return super.canUse() && ((IDataManager) this.mob).getValue(SREntities.TOTEM_SHIELD_TIME) > 0;
+                return super.canUse() && TotemShield.isShielded(this.mob);
             }
         });
         this.goalSelector.addGoal(1, new AvoidEntityGoal<IronGolemEntity>(this, IronGolemEntity.class, 8.0F, 0.6D, 1.0D) {
             @Override
             public boolean canUse() {
-                return super.canUse() && ((IDataManager) this.mob).getValue(SREntities.TOTEM_SHIELD_TIME) > 0;
+                return super.canUse() && TotemShield.isShielded(this.mob);
             }
         });
         this.targetSelector.addGoal(2, (new NearestAttackableTargetGoal<PlayerEntity>(this, PlayerEntity.class, true) {
             @Override
             public boolean canUse() {
-                return super.canUse() && ((IDataManager) this.mob).getValue(SREntities.TOTEM_SHIELD_TIME) <= 0;
+                return super.canUse() && !TotemShield.isShielded(this.mob);
             }
         }.setUnseenMemoryTicks(300)));
         this.targetSelector.addGoal(3, (new NearestAttackableTargetGoal<AbstractVillagerEntity>(this, AbstractVillagerEntity.class, true) {
             @Override
             public boolean canUse() {
-                return super.canUse() && ((IDataManager) this.mob).getValue(SREntities.TOTEM_SHIELD_TIME) <= 0;
+                return super.canUse() && !TotemShield.isShielded(this.mob);
             }
         }.setUnseenMemoryTicks(300)));
         this.targetSelector.addGoal(3, new NearestAttackableTargetGoal<IronGolemEntity>(this, IronGolemEntity.class, true) {
             @Override
             public boolean canUse() {
-                return super.canUse() && ((IDataManager) this.mob).getValue(SREntities.TOTEM_SHIELD_TIME) <= 0;
+                return super.canUse() && !TotemShield.isShielded(this.mob);
             }
         }.setUnseenMemoryTicks(300));
 
@@ -110,11 +108,10 @@ public class TricksterEntity extends SpellcastingIllagerEntity {
 
     @Override
     public boolean hurt(DamageSource source, float amount) {
-        IDataManager data = (IDataManager) this;
         if (source.getDirectEntity() instanceof ProjectileEntity) {
-            if (this.getHealth() - amount <= 0 && data.getValue(SREntities.TOTEM_SHIELD_COOLDOWN) <= 0) {
+            if (this.getHealth() - amount <= 0 && TotemShield.getCooldown(this) <= 0) {
                 this.setHealth(2.0F);
-                data.setValue(SREntities.TOTEM_SHIELD_COOLDOWN, 1800);
+                TotemShield.startPermanentCooldown(this);
                 if (!this.level.isClientSide())
                     this.level.broadcastEntityEvent(this, (byte) 35);
                 this.level.playSound(null, this.blockPosition(), SRSounds.ENTITY_TRICKSTER_LAUGH.get(), SoundCategory.HOSTILE, 1.0f, 1.0f);
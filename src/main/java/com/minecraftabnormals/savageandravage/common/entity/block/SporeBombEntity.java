@@ -1,13 +1,15 @@
 package com.minecraftabnormals.savageandravage.common.entity.block;
 
 import com.minecraftabnormals.savageandravage.common.entity.SporeCloudEntity;
+import com.minecraftabnormals.savageandravage.core.other.EntityExplosion;
+import com.minecraftabnormals.savageandravage.core.other.SporeBombChainReaction;
 import com.minecraftabnormals.savageandravage.core.registry.SREntities;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.item.TNTEntity;
 import net.minecraft.network.IPacket;
-import net.minecraft.world.Explosion;
 import net.minecraft.world.World;
+import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.fml.network.NetworkHooks;
 
 import javax.annotation.Nullable;
@@ -40,7 +42,8 @@ public class SporeBombEntity extends TNTEntity {
 
 		sporeCloud.setCloudSize(4 + this.level.getRandom().nextInt(3));
 		sporeCloud.setSpawnCloudInstantly(true);
-		this.level.explode(this, this.getX(), this.getY(0.0625D), this.getZ(), 4.0F, Explosion.Mode.NONE);
+		if (EntityExplosion.explode((ServerWorld) this.level, this, this.getX(), this.getY(0.0625D), this.getZ(), 4.0F) != null)
+			SporeBombChainReaction.queueInRadius(this.level, this.getX(), this.getY(0.0625D), this.getZ(), 4.0F, this.getOwner());
 		sporeCloud.absMoveTo(this.getX(), this.getY(0.0625), this.getZ(), this.yRot, this.xRot);
 		this.level.addFreshEntity(sporeCloud);
 	}
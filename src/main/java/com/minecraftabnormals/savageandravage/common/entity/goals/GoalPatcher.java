@@ -0,0 +1,56 @@
+package com.minecraftabnormals.savageandravage.common.entity.goals;
+
+import com.minecraftabnormals.abnormals_core.common.world.storage.tracking.IDataManager;
+import com.minecraftabnormals.savageandravage.core.registry.SREntities;
+import net.minecraft.entity.MobEntity;
+import net.minecraft.entity.ai.goal.Goal;
+import net.minecraft.entity.ai.goal.GoalSelector;
+import net.minecraft.entity.ai.goal.PrioritizedGoal;
+
+import javax.annotation.Nullable;
+
+/**
+ * Replaces vanilla goals on mobs as they join a world. Each mob instance is only patched once, so an instance that
+ * rejoins a world keeps the goals it was already given instead of being scanned again.
+ */
+public final class GoalPatcher {
+
+	private GoalPatcher() {
+	}
+
+	/**
+	 * Marks the mob as patched.
+	 *
+	 * @return <code>true</code> if the mob had not been patched before and the caller should install its goals.
+	 */
+	public static boolean markPatched(MobEntity mob) {
+		IDataManager data = (IDataManager) mob;
+		if (data.getValue(SREntities.GOALS_PATCHED))
+			return false;
+		data.setValue(SREntities.GOALS_PATCHED, true);
+		return true;
+	}
+
+	@Nullable
+	public static Goal findFirst(GoalSelector selector, Class<?> goalClass) {
+		for (PrioritizedGoal prioritizedGoal : selector.availableGoals) {
+			if (goalClass.isInstance(prioritizedGoal.getGoal()))
+				return prioritizedGoal.getGoal();
+		}
+		return null;
+	}
+
+	/**
+	 * Removes the first goal of the given class and adds the replacement in its place.
+	 *
+	 * @return <code>true</code> if a goal was replaced.
+	 */
+	public static boolean replaceFirst(GoalSelector selector, Class<?> goalClass, int priority, Goal replacement) {
+		Goal goal = findFirst(selector, goalClass);
+		if (goal == null)
+			return false;
+		selector.removeGoal(goal);
+		selector.addGoal(priority, replacement);
+		return true;
+	}
+}
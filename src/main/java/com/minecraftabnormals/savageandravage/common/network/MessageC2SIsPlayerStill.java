@@ -1,45 +1,54 @@
-
 package com.minecraftabnormals.savageandravage.common.network;
 
 import com.minecraftabnormals.abnormals_core.common.world.storage.tracking.IDataManager;
+import com.minecraftabnormals.savageandravage.core.other.MaskMotionState;
+import com.minecraftabnormals.savageandravage.core.other.MaskWearerIndex;
+import com.minecraftabnormals.savageandravage.core.other.SREvents;
 import com.minecraftabnormals.savageandravage.core.registry.SREntities;
-import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.fml.network.NetworkEvent;
 
-import java.util.UUID;
 import java.util.function.Supplier;
 
+/**
+ * Sent by a client when its player starts or stops standing still while wearing a Mask of Dishonesty. The player is
+ * always the sender, and the server only marks them invisible once its own position data agrees they are still.
+ */
 public class MessageC2SIsPlayerStill {
-    private final UUID playerId;
     private final boolean isStill;
 
-    public MessageC2SIsPlayerStill(UUID playerId, boolean isStill) {
-        this.playerId = playerId;
+    public MessageC2SIsPlayerStill(boolean isStill) {
         this.isStill = isStill;
     }
 
     public void serialize(PacketBuffer buffer) {
-        buffer.writeUUID(this.playerId);
         buffer.writeBoolean(this.isStill);
     }
 
     public static MessageC2SIsPlayerStill deserialize(PacketBuffer buffer) {
-        return new MessageC2SIsPlayerStill(buffer.readUUID(), buffer.readBoolean());
+        return new MessageC2SIsPlayerStill(buffer.readBoolean());
     }
 
     public static void handle(MessageC2SIsPlayerStill message, Supplier<NetworkEvent.Context> ctx) {
         NetworkEvent.Context context = ctx.get();
         if (context.getDirection().getReceptionSide() == LogicalSide.SERVER) {
             context.enqueueWork(() -> {
-                if (context.getSender() != null) {
-                    PlayerEntity player = context.getSender().getLevel().getPlayerByUUID(message.playerId);
-                    if (player != null)
-                        ((IDataManager) player).setValue(SREntities.MARK_INVISIBLE, message.isStill);
-                }
+                ServerPlayerEntity player = context.getSender();
+                if (player == null)
+                    return;
+                MaskMotionState motion = MaskWearerIndex.get(player);
+                // The client can put the mask on before the server's equipment change event adds the player to the index
+                if (motion == null && message.isStill && SREvents.isWearingMask(player))
+                    motion = MaskWearerIndex.add(player.level, player);
+                if (motion != null)
+                    motion.setClaimedStill(message.isStill);
+                else if (!message.isStill)
+                    ((IDataManager) player).setValue(SREntities.MARK_INVISIBLE, false);
             });
         }
+        context.setPacketHandled(true);
     }
 
 }
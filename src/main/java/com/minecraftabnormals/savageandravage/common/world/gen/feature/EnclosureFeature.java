@@ -3,6 +3,7 @@ package com.minecraftabnormals.savageandravage.common.world.gen.feature;
 import com.minecraftabnormals.savageandravage.common.entity.CreepieEntity;
 import com.minecraftabnormals.savageandravage.common.entity.GrieferEntity;
 import com.minecraftabnormals.savageandravage.core.SavageAndRavage;
+import com.minecraftabnormals.savageandravage.core.other.CreepieSpawnGovernor;
 import com.minecraftabnormals.savageandravage.core.registry.SRBlocks;
 import com.minecraftabnormals.savageandravage.core.registry.SREntities;
 import com.mojang.datafixers.util.Pair;
@@ -214,7 +215,7 @@ public class EnclosureFeature extends Feature<NoFeatureConfig> {
 				}
 			}
 			if (rand.nextFloat() < 0.3f) {
-				MobEntity entity = rand.nextFloat() < 0.5f ? EntityType.CREEPER.create(reader.getLevel()) : SREntities.CREEPIE.get().create(reader.getLevel());
+				MobEntity entity = rand.nextFloat() < 0.5f || !CreepieSpawnGovernor.canSpawnInWorld(reader.getLevel()) ? EntityType.CREEPER.create(reader.getLevel()) : SREntities.CREEPIE.get().create(reader.getLevel());
 				if (entity != null) {
 					entity.moveTo(currentPos.getX() + 0.5, minY + 1, currentPos.getZ() + 0.5, 0, 0);
 					entity.setPersistenceRequired();
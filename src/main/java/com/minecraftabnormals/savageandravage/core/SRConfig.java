@@ -3,8 +3,12 @@ package com.minecraftabnormals.savageandravage.core;
 import com.minecraftabnormals.abnormals_core.core.annotations.ConfigKey;
 import net.minecraftforge.common.ForgeConfigSpec;
 import net.minecraftforge.common.ForgeConfigSpec.ConfigValue;
+import net.minecraftforge.eventbus.api.SubscribeEvent;
+import net.minecraftforge.fml.common.Mod;
+import net.minecraftforge.fml.config.ModConfig;
 import org.apache.commons.lang3.tuple.Pair;
 
+@Mod.EventBusSubscriber(modid = SavageAndRavage.MOD_ID, bus = Mod.EventBusSubscriber.Bus.MOD)
 public class SRConfig {
 
 	public static class Common {
@@ -21,6 +25,12 @@ public class SRConfig {
 		@ConfigKey("creepie_explosions_destroy_blocks")
 		public final ConfigValue<Boolean> creepieExplosionsDestroyBlocks;
 
+		@ConfigKey("creepie_limit_per_chunk")
+		public final ConfigValue<Integer> creepieLimitPerChunk;
+
+		@ConfigKey("creepie_limit_per_world")
+		public final ConfigValue<Integer> creepieLimitPerWorld;
+
 		@ConfigKey("evokers_use_totems")
 		public final ConfigValue<Boolean> evokersUseTotems;
 
@@ -30,6 +40,9 @@ public class SRConfig {
 		@ConfigKey("no_bad_omen_on_death")
 		public final ConfigValue<Boolean> noBadOmenOnDeath;
 
+		@ConfigKey("mask_illegal_movement_ticks")
+		public final ConfigValue<Integer> maskIllegalMovementTicks;
+
 		public Common(ForgeConfigSpec.Builder builder) {
 			builder.push("mobs");
 
@@ -38,6 +51,12 @@ public class SRConfig {
 			creeperExplosionsSpawnCreepies = builder.define("Creeper explosions spawn creepies", false);
 			creepersDropSporesAfterExplosionDeath = builder.define("Creepers drop Creeper Spores after they die from an explosion", true);
 			creepieExplosionsDestroyBlocks = builder.define("Creepie explosions destroy blocks", false);
+			creepieLimitPerChunk = builder
+					.comment("How many creepies can be loaded in one chunk before spore clouds, mischief arrows, spawn eggs used on creepers and world generation stop adding more")
+					.defineInRange("Creepie limit per chunk", 16, 0, Integer.MAX_VALUE);
+			creepieLimitPerWorld = builder
+					.comment("How many creepies can be loaded in one dimension before spore clouds, mischief arrows, spawn eggs used on creepers and world generation stop adding more")
+					.defineInRange("Creepie limit per dimension", 512, 0, Integer.MAX_VALUE);
 			builder.pop();
 			
 			builder.push("illagers");
@@ -51,6 +70,12 @@ public class SRConfig {
 			builder.pop();
 			
 			builder.pop();
+
+			builder.push("items");
+			maskIllegalMovementTicks = builder
+					.comment("How many more ticks a player on a dedicated server can spend moving than standing still while invisible from a Mask of Dishonesty before they are disconnected")
+					.defineInRange("Mask of Dishonesty illegal movement ticks", 80, 1, Integer.MAX_VALUE);
+			builder.pop();
 		}
 	}
 
@@ -67,6 +92,46 @@ public class SRConfig {
 		}
 	}
 
+	/**
+	 * Plain copy of the common config, taken whenever it is loaded or reloaded so hot paths don't go through the spec.
+	 */
+	public static class CommonValues {
+		public final boolean creeperExplosionsDestroyBlocks;
+		public final boolean creeperExplosionsSpawnCreepies;
+		public final boolean creepersDropSporesAfterExplosionDeath;
+		public final boolean creepieExplosionsDestroyBlocks;
+		public final int creepieLimitPerChunk;
+		public final int creepieLimitPerWorld;
+		public final boolean evokersUseTotems;
+		public final boolean reducedVexHealth;
+		public final boolean noBadOmenOnDeath;
+		public final int maskIllegalMovementTicks;
+
+		private CommonValues(Common common) {
+			this.creeperExplosionsDestroyBlocks = common.creeperExplosionsDestroyBlocks.get();
+			this.creeperExplosionsSpawnCreepies = common.creeperExplosionsSpawnCreepies.get();
+			this.creepersDropSporesAfterExplosionDeath = common.creepersDropSporesAfterExplosionDeath.get();
+			this.creepieExplosionsDestroyBlocks = common.creepieExplosionsDestroyBlocks.get();
+			this.creepieLimitPerChunk = common.creepieLimitPerChunk.get();
+			this.creepieLimitPerWorld = common.creepieLimitPerWorld.get();
+			this.evokersUseTotems = common.evokersUseTotems.get();
+			this.reducedVexHealth = common.reducedVexHealth.get();
+			this.noBadOmenOnDeath = common.noBadOmenOnDeath.get();
+			this.maskIllegalMovementTicks = common.maskIllegalMovementTicks.get();
+		}
+	}
+
+	/**
+	 * Plain copy of the client config, taken whenever it is loaded or reloaded.
+	 */
+	public static class ClientValues {
+		public final boolean creepieSprout;
+
+		private ClientValues(Client client) {
+			this.creepieSprout = client.creepieSprout.get();
+		}
+	}
+
 	public static final ForgeConfigSpec COMMON_SPEC;
 	public static final Common COMMON;
 
@@ -82,4 +147,32 @@ public class SRConfig {
 		CLIENT_SPEC = clientSpecPair.getRight();
 		CLIENT = clientSpecPair.getLeft();
 	}
+
+	private static volatile CommonValues commonValues;
+	private static volatile ClientValues clientValues;
+
+	public static CommonValues common() {
+		return commonValues;
+	}
+
+	public static ClientValues client() {
+		return clientValues;
+	}
+
+	@SubscribeEvent
+	public static void onConfigLoading(ModConfig.Loading event) {
+		refresh(event.getConfig());
+	}
+
+	@SubscribeEvent
+	public static void onConfigReloading(ModConfig.Reloading event) {
+		refresh(event.getConfig());
+	}
+
+	private static void refresh(ModConfig config) {
+		if (config.getSpec() == COMMON_SPEC)
+			commonValues = new CommonValues(COMMON);
+		else if (config.getSpec() == CLIENT_SPEC)
+			clientValues = new ClientValues(CLIENT);
+	}
 }
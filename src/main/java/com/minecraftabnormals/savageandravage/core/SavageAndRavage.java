@@ -7,6 +7,7 @@ import com.minecraftabnormals.savageandravage.client.render.layer.TotemShieldLay
 import com.minecraftabnormals.savageandravage.common.network.MessageC2SIsPlayerStill;
 import com.minecraftabnormals.savageandravage.core.other.SRCompat;
 import com.minecraftabnormals.savageandravage.core.other.SRFeatures;
+import com.minecraftabnormals.savageandravage.core.other.SRJoinHandlers;
 import com.minecraftabnormals.savageandravage.core.other.SRLoot;
 import com.minecraftabnormals.savageandravage.core.registry.*;
 import net.minecraft.client.Minecraft;
@@ -38,7 +39,7 @@ import net.minecraftforge.fml.network.simple.SimpleChannel;
 public class SavageAndRavage {
 	public static final String MOD_ID = "savageandravage";
 	public static final RegistryHelper REGISTRY_HELPER = new RegistryHelper(MOD_ID);
-	public static final String NETWORK_PROTOCOL = "SR1";
+	public static final String NETWORK_PROTOCOL = "SR2";
 
 	public static final SimpleChannel CHANNEL = NetworkRegistry.ChannelBuilder.named(new ResourceLocation(MOD_ID, "net"))
 			.networkProtocolVersion(() -> NETWORK_PROTOCOL)
@@ -82,6 +83,7 @@ public class SavageAndRavage {
 			SRLoot.registerLootConditions();
 			SRCompat.registerFlammables();
 			SRCompat.registerDispenserBehaviors();
+			SRJoinHandlers.registerJoinHandlers();
 		});
 	}
 
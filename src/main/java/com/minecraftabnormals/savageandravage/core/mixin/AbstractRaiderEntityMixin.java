@@ -23,7 +23,7 @@ public abstract class AbstractRaiderEntityMixin extends PatrollerEntity {
 
 	@Inject(method = "die", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/GameRules;getBoolean(Lnet/minecraft/world/GameRules$RuleKey;)Z", shift = At.Shift.AFTER), cancellable = true)
 	private void cancelBadOmenEffect(DamageSource source, CallbackInfo info) {
-		if (SRConfig.COMMON.noBadOmenOnDeath.get()) {
+		if (SRConfig.common().noBadOmenOnDeath) {
 			super.die(source);
 			info.cancel();
 		}
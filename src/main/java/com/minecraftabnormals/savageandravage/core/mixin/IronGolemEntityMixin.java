@@ -35,7 +35,7 @@ public abstract class IronGolemEntityMixin extends GolemEntity {
 
 	@Inject(at = @At("RETURN"), method = "canAttackType(Lnet/minecraft/entity/EntityType;)Z", cancellable = true)
 	public void canAttack(EntityType<?> typeIn, CallbackInfoReturnable<Boolean> ci) {
-		if (this.isPlayerCreated() && typeIn == EntityType.PLAYER || SRConfig.COMMON.creeperExplosionsDestroyBlocks.get() && typeIn == EntityType.CREEPER) {
+		if (this.isPlayerCreated() && typeIn == EntityType.PLAYER || SRConfig.common().creeperExplosionsDestroyBlocks && typeIn == EntityType.CREEPER) {
 			ci.setReturnValue(false);
 		}
 		ci.setReturnValue(super.canAttackType(typeIn));
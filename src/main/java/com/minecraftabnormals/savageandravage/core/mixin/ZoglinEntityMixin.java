@@ -14,7 +14,7 @@ public abstract class ZoglinEntityMixin {
 
 	@Inject(at = @At("RETURN"), method = "isTargetable", cancellable = true)
 	private static void isTargetable(LivingEntity entity, CallbackInfoReturnable<Boolean> ci) {
-		if (!SRConfig.COMMON.creeperExplosionsDestroyBlocks.get() && entity.getType() == EntityType.CREEPER)
+		if (!SRConfig.common().creeperExplosionsDestroyBlocks && entity.getType() == EntityType.CREEPER)
 			ci.setReturnValue(true);
 	}
 }
@@ -0,0 +1,88 @@
+package com.minecraftabnormals.savageandravage.core.other;
+
+import com.minecraftabnormals.savageandravage.common.entity.CreepieEntity;
+import com.minecraftabnormals.savageandravage.core.SRConfig;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps count of the creepies loaded in each server world and chunk, and decides whether the mod may add another one.
+ * Counts are updated as creepies are added, removed or move between chunks, so checking a budget never scans entities.
+ */
+public final class CreepieSpawnGovernor {
+	private static final Map<IWorld, Population> POPULATIONS = new ConcurrentHashMap<>();
+
+	private CreepieSpawnGovernor() {
+	}
+
+	/**
+	 * @return <code>true</code> if a creepie may be added at the given position without going over the per-chunk or
+	 * per-world creepie limit.
+	 */
+	public static boolean canSpawn(World world, double x, double z) {
+		if (world.isClientSide())
+			return true;
+		Population population = POPULATIONS.get(world);
+		if (population == null)
+			return true;
+		SRConfig.CommonValues config = SRConfig.common();
+		return population.total < config.creepieLimitPerWorld && population.chunks.get(chunkKey(x, z)) < config.creepieLimitPerChunk;
+	}
+
+	/**
+	 * Only checks the per-world limit, for callers such as world generation that may run off the server thread.
+	 */
+	public static boolean canSpawnInWorld(World world) {
+		Population population = POPULATIONS.get(world);
+		return population == null || population.total < SRConfig.common().creepieLimitPerWorld;
+	}
+
+	public static long chunkKey(double x, double z) {
+		return ChunkPos.asLong(MathHelper.floor(x) >> 4, MathHelper.floor(z) >> 4);
+	}
+
+	public static void onCreepieAdded(CreepieEntity creepie, long chunk) {
+		if (creepie.level.isClientSide())
+			return;
+		Population population = POPULATIONS.computeIfAbsent(creepie.level, world -> new Population());
+		population.total++;
+		population.chunks.addTo(chunk, 1);
+	}
+
+	public static void onCreepieRemoved(CreepieEntity creepie, long chunk) {
+		if (creepie.level.isClientSide())
+			return;
+		Population population = POPULATIONS.get(creepie.level);
+		if (population == null)
+			return;
+		population.total--;
+		if (population.chunks.addTo(chunk, -1) <= 1)
+			population.chunks.remove(chunk);
+	}
+
+	public static void onCreepieMoved(CreepieEntity creepie, long from, long to) {
+		if (creepie.level.isClientSide())
+			return;
+		Population population = POPULATIONS.get(creepie.level);
+		if (population == null)
+			return;
+		if (population.chunks.addTo(from, -1) <= 1)
+			population.chunks.remove(from);
+		population.chunks.addTo(to, 1);
+	}
+
+	public static void clear(IWorld world) {
+		POPULATIONS.remove(world);
+	}
+
+	private static class Population {
+		private final Long2IntOpenHashMap chunks = new Long2IntOpenHashMap();
+		private volatile int total;
+	}
+}
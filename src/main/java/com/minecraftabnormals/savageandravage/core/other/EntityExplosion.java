@@ -0,0 +1,147 @@
+package com.minecraftabnormals.savageandravage.core.other;
+
+import net.minecraft.enchantment.ProtectionEnchantment;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.item.TNTEntity;
+import net.minecraft.entity.player.PlayerEntity;
+import net.minecraft.entity.player.ServerPlayerEntity;
+import net.minecraft.network.play.server.SExplosionPacket;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.math.vector.Vector3d;
+import net.minecraft.world.Explosion;
+import net.minecraft.world.server.ServerWorld;
+import net.minecraftforge.event.ForgeEventFactory;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Explosions that only hurt and push entities. They skip the block ray march that {@link Explosion#explode()} does even
+ * when no blocks are destroyed, but still fire the start and detonate events with an empty block list and behave like
+ * an {@link Explosion.Mode#NONE} explosion for clients.
+ */
+public final class EntityExplosion {
+
+	private EntityExplosion() {
+	}
+
+	@Nullable
+	public static Explosion explode(ServerWorld world, @Nullable Entity exploder, double x, double y, double z, float size) {
+		List<Explosion> exploded = explodeTogether(world, Collections.singletonList(new Detonation(exploder, x, y, z, size)));
+		return exploded.isEmpty() ? null : exploded.get(0);
+	}
+
+	/**
+	 * Detonates explosions that are close enough to each other to go off together. Each explosion still fires its own
+	 * events and hurts entities with its own damage source and exposure, so entities take the same damage as they would
+	 * from separate explosions, but entities are only gathered once and clients get a single explosion.
+	 *
+	 * @return the explosions that were not cancelled.
+	 */
+	public static List<Explosion> explodeTogether(ServerWorld world, List<Detonation> detonations) {
+		if (detonations.isEmpty())
+			return Collections.emptyList();
+
+		double centerX = 0.0D;
+		double centerY = 0.0D;
+		double centerZ = 0.0D;
+		float maxSize = 0.0F;
+		AxisAlignedBB area = null;
+		for (Detonation detonation : detonations) {
+			centerX += detonation.x / detonations.size();
+			centerY += detonation.y / detonations.size();
+			centerZ += detonation.z / detonations.size();
+			maxSize = Math.max(maxSize, detonation.size);
+			area = area == null ? detonation.getArea() : area.minmax(detonation.getArea());
+		}
+		List<Entity> nearby = world.getEntities((Entity) null, area);
+		Map<PlayerEntity, Vector3d> hitPlayers = new HashMap<>();
+
+		List<Explosion> exploded = new ArrayList<>(detonations.size());
+		for (Detonation detonation : detonations) {
+			Explosion explosion = new Explosion(world, detonation.exploder, null, null, detonation.x, detonation.y, detonation.z, detonation.size, false, Explosion.Mode.NONE);
+			if (ForgeEventFactory.onExplosionStart(world, explosion))
+				continue;
+
+			float diameter = detonation.size * 2.0F;
+			AxisAlignedBB detonationArea = detonation.getArea();
+			List<Entity> entities = new ArrayList<>();
+			for (Entity entity : nearby) {
+				if (entity != detonation.exploder && entity.getBoundingBox().intersects(detonationArea))
+					entities.add(entity);
+			}
+			ForgeEventFactory.onExplosionDetonate(world, explosion, entities, diameter);
+
+			Vector3d origin = new Vector3d(detonation.x, detonation.y, detonation.z);
+			for (Entity entity : entities) {
+				if (entity.ignoreExplosion())
+					continue;
+				double distance = MathHelper.sqrt(entity.distanceToSqr(origin)) / diameter;
+				if (distance > 1.0D)
+					continue;
+				double dx = entity.getX() - detonation.x;
+				double dy = (entity instanceof TNTEntity ? entity.getY() : entity.getEyeY()) - detonation.y;
+				double dz = entity.getZ() - detonation.z;
+				double length = MathHelper.sqrt(dx * dx + dy * dy + dz * dz);
+				if (length == 0.0D)
+					continue;
+				dx /= length;
+				dy /= length;
+				dz /= length;
+				double exposure = Explosion.getSeenPercent(origin, entity);
+				double impact = (1.0D - distance) * exposure;
+				entity.hurt(explosion.getDamageSource(), (float) ((int) ((impact * impact + impact) / 2.0D * 7.0D * diameter + 1.0D)));
+				double knockback = entity instanceof LivingEntity ? ProtectionEnchantment.getExplosionKnockbackAfterDampener((LivingEntity) entity, impact) : impact;
+				entity.setDeltaMovement(entity.getDeltaMovement().add(dx * knockback, dy * knockback, dz * knockback));
+				if (entity instanceof PlayerEntity) {
+					PlayerEntity player = (PlayerEntity) entity;
+					if (!player.isSpectator() && (!player.isCreative() || !player.abilities.flying))
+						hitPlayers.merge(player, new Vector3d(dx * impact, dy * impact, dz * impact), Vector3d::add);
+				}
+			}
+			exploded.add(explosion);
+		}
+
+		if (!exploded.isEmpty()) {
+			Explosion explosion = exploded.get(0);
+			explosion.getHitPlayers().putAll(hitPlayers);
+			explosion.finalizeExplosion(false);
+			for (ServerPlayerEntity player : world.players()) {
+				if (player.distanceToSqr(centerX, centerY, centerZ) < 4096.0D)
+					player.connection.send(new SExplosionPacket(centerX, centerY, centerZ, maxSize, Collections.emptyList(), hitPlayers.get(player)));
+			}
+		}
+		return exploded;
+	}
+
+	public static class Detonation {
+		@Nullable
+		private final Entity exploder;
+		private final double x;
+		private final double y;
+		private final double z;
+		private final float size;
+
+		public Detonation(@Nullable Entity exploder, double x, double y, double z, float size) {
+			this.exploder = exploder;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+			this.size = size;
+		}
+
+		public double distanceToSqr(Detonation other) {
+			double dx = this.x - other.x;
+			double dy = this.y - other.y;
+			double dz = this.z - other.z;
+			return dx * dx + dy * dy + dz * dz;
+		}
+
+		private AxisAlignedBB getArea() {
+			float diameter = this.size * 2.0F;
+			return new AxisAlignedBB(MathHelper.floor(this.x - diameter - 1.0D), MathHelper.floor(this.y - diameter - 1.0D), MathHelper.floor(this.z - diameter - 1.0D), MathHelper.floor(this.x + diameter + 1.0D), MathHelper.floor(this.y + diameter + 1.0D), MathHelper.floor(this.z + diameter + 1.0D));
+		}
+	}
+}
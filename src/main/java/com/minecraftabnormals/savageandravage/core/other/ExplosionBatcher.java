@@ -0,0 +1,55 @@
+package com.minecraftabnormals.savageandravage.core.other;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.server.ServerWorld;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds entity-only explosions until the end of the world tick, then detonates the ones that went off close to each
+ * other together through {@link EntityExplosion#explodeTogether}, so a swarm of creepies blowing up at once is handled
+ * as a few explosions instead of one per creepie.
+ * <p>
+ * Exposure is still traced from each explosion's own origin so entities take the same damage as before, which means a
+ * group only saves the repeated entity searches and explosion packets. In exchange the damage
+ * and knockback land at the end of the tick rather than when each creepie explodes, after every other entity has ticked,
+ * while the creepie itself is removed right away. Entities can move a little before they are hit, and anything checking
+ * the creepie later in the tick no longer finds it. This is deliberate, since explosions can't be grouped otherwise.
+ */
+public class ExplosionBatcher {
+	public static final double MERGE_DISTANCE = 1.5D;
+	private static final Map<IWorld, List<EntityExplosion.Detonation>> PENDING = new ConcurrentHashMap<>();
+
+	public static void queue(ServerWorld world, Entity exploder, double x, double y, double z, float size) {
+		PENDING.computeIfAbsent(world, key -> new ArrayList<>()).add(new EntityExplosion.Detonation(exploder, x, y, z, size));
+	}
+
+	public static void flush(ServerWorld world) {
+		List<EntityExplosion.Detonation> pending = PENDING.remove(world);
+		if (pending == null)
+			return;
+		double mergeDistanceSq = MERGE_DISTANCE * MERGE_DISTANCE;
+		while (!pending.isEmpty()) {
+			EntityExplosion.Detonation first = pending.remove(0);
+			List<EntityExplosion.Detonation> group = new ArrayList<>();
+			group.add(first);
+			for (Iterator<EntityExplosion.Detonation> iterator = pending.iterator(); iterator.hasNext(); ) {
+				EntityExplosion.Detonation detonation = iterator.next();
+				if (detonation.distanceToSqr(first) <= mergeDistanceSq) {
+					group.add(detonation);
+					iterator.remove();
+				}
+			}
+			EntityExplosion.explodeTogether(world, group);
+		}
+	}
+
+	public static void clear(IWorld world) {
+		PENDING.remove(world);
+	}
+}
@@ -0,0 +1,69 @@
+package com.minecraftabnormals.savageandravage.core.other;
+
+import com.minecraftabnormals.savageandravage.core.registry.SRAttributes;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.ai.attributes.AttributeModifier;
+import net.minecraft.inventory.EquipmentSlotType;
+import net.minecraft.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Caches the explosive damage reduction each entity gets from its equipment, per slot. Entries are only kept for entities
+ * wearing something that reduces explosive damage, and are updated from
+ * {@link net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent} on the server.
+ */
+public class ExplosiveDamageReductionCache {
+	private static final EquipmentSlotType[] SLOTS = EquipmentSlotType.values();
+	private static final Map<LivingEntity, Reduction> REDUCTIONS = new WeakHashMap<>();
+
+	public static void update(LivingEntity entity, EquipmentSlotType slot, ItemStack stack) {
+		double amount = 0;
+		if (!stack.isEmpty()) {
+			for (AttributeModifier modifier : stack.getAttributeModifiers(slot).get(SRAttributes.EXPLOSIVE_DAMAGE_REDUCTION.get()))
+				amount += modifier.getAmount();
+		}
+
+		Reduction reduction = REDUCTIONS.get(entity);
+		if (reduction == null) {
+			if (amount == 0)
+				return;
+			reduction = new Reduction();
+			REDUCTIONS.put(entity, reduction);
+		}
+		reduction.set(slot, amount);
+		if (reduction.getTotal() == 0)
+			REDUCTIONS.remove(entity);
+	}
+
+	@Nullable
+	public static Reduction get(LivingEntity entity) {
+		return REDUCTIONS.isEmpty() ? null : REDUCTIONS.get(entity);
+	}
+
+	public static class Reduction {
+		private final double[] bySlot = new double[SLOTS.length];
+		private double total;
+
+		private void set(EquipmentSlotType slot, double amount) {
+			this.bySlot[slot.ordinal()] = amount;
+			double total = 0;
+			for (double slotAmount : this.bySlot)
+				total += slotAmount;
+			this.total = total;
+		}
+
+		public double getTotal() {
+			return this.total;
+		}
+
+		/**
+		 * @return Whether the item in the given slot reduces explosive damage.
+		 */
+		public boolean reduces(EquipmentSlotType slot) {
+			return this.bySlot[slot.ordinal()] != 0;
+		}
+	}
+}
@@ -0,0 +1,90 @@
+package com.minecraftabnormals.savageandravage.core.other;
+
+/**
+ * Primitive motion state for an entity wearing a Mask of Dishonesty, used to tell whether it is standing still and to
+ * count the ticks it has moved while invisible. For players it also holds the still state exchanged through
+ * {@link com.minecraftabnormals.savageandravage.common.network.MessageC2SIsPlayerStill}.
+ */
+public class MaskMotionState {
+	/**
+	 * How long the client waits for the server to acknowledge a still state before sending it again.
+	 */
+	public static final int ACKNOWLEDGE_TIMEOUT = 20;
+
+	private boolean hasPrevious;
+	private double prevX;
+	private double prevY;
+	private double prevZ;
+	private int illegalTicks;
+	private boolean awaitingAcknowledgement;
+	private boolean sentStill;
+	private long sentTime;
+	private boolean claimedStill;
+
+	/**
+	 * @return <code>true</code> if the position matches the last recorded one, or if nothing has been recorded yet.
+	 */
+	public boolean isAt(double x, double y, double z) {
+		return !this.hasPrevious || (this.prevX == x && this.prevY == y && this.prevZ == z);
+	}
+
+	public void setPosition(double x, double y, double z) {
+		this.prevX = x;
+		this.prevY = y;
+		this.prevZ = z;
+		this.hasPrevious = true;
+	}
+
+	/**
+	 * Counts a tick of movement while invisible up, or a still tick down, then records the position.
+	 *
+	 * @return The updated number of illegal ticks.
+	 */
+	public int trackIllegalMovement(double x, double y, double z) {
+		if (this.hasPrevious) {
+			if (!this.isAt(x, y, z))
+				this.illegalTicks++;
+			else if (this.illegalTicks > 0)
+				this.illegalTicks--;
+		}
+		this.setPosition(x, y, z);
+		return this.illegalTicks;
+	}
+
+	public int getIllegalTicks() {
+		return this.illegalTicks;
+	}
+
+	/**
+	 * Used on the client to decide whether the player's still state needs to be sent. Only one state is sent at a time,
+	 * until the server's synced value matches it or {@link #ACKNOWLEDGE_TIMEOUT} ticks pass.
+	 *
+	 * @param still    Whether the player is currently still.
+	 * @param marked   The still state last synced from the server.
+	 * @param gameTime The current game time.
+	 * @return <code>true</code> if a message should be sent.
+	 */
+	public boolean shouldNotifyServer(boolean still, boolean marked, long gameTime) {
+		if (still == marked) {
+			this.awaitingAcknowledgement = false;
+			return false;
+		}
+		if (this.awaitingAcknowledgement && this.sentStill == still && gameTime - this.sentTime < ACKNOWLEDGE_TIMEOUT)
+			return false;
+		this.awaitingAcknowledgement = true;
+		this.sentStill = still;
+		this.sentTime = gameTime;
+		return true;
+	}
+
+	/**
+	 * Used on the server to record the still state last claimed by the player's client.
+	 */
+	public void setClaimedStill(boolean claimedStill) {
+		this.claimedStill = claimedStill;
+	}
+
+	public boolean isClaimedStill() {
+		return this.claimedStill;
+	}
+}
@@ -0,0 +1,41 @@
+package com.minecraftabnormals.savageandravage.core.other;
+
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.world.IWorld;
+
+import javax.annotation.Nullable;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks, per world, the entities that are wearing a Mask of Dishonesty or still need to settle their mask state after
+ * taking one off, along with their {@link MaskMotionState}. Only members are run through the mask logic each tick.
+ */
+public class MaskWearerIndex {
+	private static final Map<IWorld, Map<LivingEntity, MaskMotionState>> WEARERS = new ConcurrentHashMap<>();
+
+	public static MaskMotionState add(IWorld world, LivingEntity entity) {
+		return WEARERS.computeIfAbsent(world, key -> new IdentityHashMap<>()).computeIfAbsent(entity, key -> new MaskMotionState());
+	}
+
+	public static void remove(IWorld world, LivingEntity entity) {
+		Map<LivingEntity, MaskMotionState> wearers = WEARERS.get(world);
+		if (wearers != null)
+			wearers.remove(entity);
+	}
+
+	@Nullable
+	public static MaskMotionState get(LivingEntity entity) {
+		Map<LivingEntity, MaskMotionState> wearers = WEARERS.get(entity.level);
+		return wearers == null || wearers.isEmpty() ? null : wearers.get(entity);
+	}
+
+	public static boolean contains(LivingEntity entity) {
+		return get(entity) != null;
+	}
+
+	public static void clear(IWorld world) {
+		WEARERS.remove(world);
+	}
+}
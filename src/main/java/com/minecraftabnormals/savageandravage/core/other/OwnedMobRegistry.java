@@ -0,0 +1,77 @@
+package com.minecraftabnormals.savageandravage.core.other;
+
+import com.minecraftabnormals.savageandravage.common.entity.IOwnableMob;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.MobEntity;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Indexes the loaded {@link IOwnableMob}s of each server world by their owner's UUID, so an owner's mobs can be counted
+ * or reached without searching the world for them. Mobs add themselves when they join a world or get a new owner, and
+ * remove themselves when they leave the world. A world's index is dropped when the world unloads.
+ */
+public final class OwnedMobRegistry {
+	private static final Map<IWorld, Map<UUID, Set<MobEntity>>> OWNED_MOBS = new ConcurrentHashMap<>();
+
+	private OwnedMobRegistry() {
+	}
+
+	public static <T extends MobEntity & IOwnableMob> void add(T mob, @Nullable UUID ownerId) {
+		if (ownerId != null && !mob.level.isClientSide())
+			OWNED_MOBS.computeIfAbsent(mob.level, world -> new HashMap<>()).computeIfAbsent(ownerId, owner -> Collections.newSetFromMap(new IdentityHashMap<>())).add(mob);
+	}
+
+	public static <T extends MobEntity & IOwnableMob> void remove(T mob, @Nullable UUID ownerId) {
+		if (ownerId == null || mob.level.isClientSide())
+			return;
+		Map<UUID, Set<MobEntity>> owners = OWNED_MOBS.get(mob.level);
+		Set<MobEntity> mobs = owners == null ? null : owners.get(ownerId);
+		if (mobs != null && mobs.remove(mob) && mobs.isEmpty())
+			owners.remove(ownerId);
+	}
+
+	public static <T extends MobEntity & IOwnableMob> void changeOwner(T mob, @Nullable UUID oldOwnerId, @Nullable UUID newOwnerId) {
+		if (!Objects.equals(oldOwnerId, newOwnerId)) {
+			remove(mob, oldOwnerId);
+			add(mob, newOwnerId);
+		}
+	}
+
+	public static int count(World world, UUID ownerId) {
+		Set<MobEntity> mobs = get(world, ownerId);
+		return mobs.size();
+	}
+
+	public static void forEach(World world, UUID ownerId, Consumer<MobEntity> action) {
+		for (MobEntity mob : new ArrayList<>(get(world, ownerId))) {
+			if (mob.isAlive())
+				action.accept(mob);
+		}
+	}
+
+	/**
+	 * Sets the attack target of every live mob owned by the given owner, skipping the target itself.
+	 */
+	public static void broadcastTarget(World world, UUID ownerId, @Nullable LivingEntity target) {
+		forEach(world, ownerId, mob -> {
+			if (mob != target)
+				mob.setTarget(target);
+		});
+	}
+
+	public static void clear(IWorld world) {
+		OWNED_MOBS.remove(world);
+	}
+
+	private static Set<MobEntity> get(World world, UUID ownerId) {
+		Map<UUID, Set<MobEntity>> owners = OWNED_MOBS.get(world);
+		Set<MobEntity> mobs = owners == null ? null : owners.get(ownerId);
+		return mobs == null ? Collections.emptySet() : mobs;
+	}
+}
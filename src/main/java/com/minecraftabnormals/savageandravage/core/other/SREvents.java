@@ -4,16 +4,11 @@ import com.minecraftabnormals.abnormals_core.common.world.storage.tracking.IData
 import com.minecraftabnormals.abnormals_core.core.AbnormalsCore;
 import com.minecraftabnormals.abnormals_core.core.util.NetworkUtil;
 import com.minecraftabnormals.savageandravage.common.entity.*;
-import com.minecraftabnormals.savageandravage.common.entity.block.SporeBombEntity;
-import com.minecraftabnormals.savageandravage.common.entity.goals.AvoidGrieferOwnedCreepiesGoal;
-import com.minecraftabnormals.savageandravage.common.entity.goals.ImprovedCrossbowGoal;
 import com.minecraftabnormals.savageandravage.common.item.IPottableItem;
 import com.minecraftabnormals.savageandravage.common.network.MessageC2SIsPlayerStill;
 import com.minecraftabnormals.savageandravage.core.SRConfig;
 import com.minecraftabnormals.savageandravage.core.SavageAndRavage;
 import com.minecraftabnormals.savageandravage.core.mixin.LivingEntityAccessor;
-import com.minecraftabnormals.savageandravage.core.registry.SRAttributes;
-import com.minecraftabnormals.savageandravage.core.registry.SRBlocks;
 import com.minecraftabnormals.savageandravage.core.registry.SREffects;
 import com.minecraftabnormals.savageandravage.core.registry.SREntities;
 import com.minecraftabnormals.savageandravage.core.registry.SRItems;
@@ -26,20 +21,10 @@ import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.LivingEntity;
 import net.minecraft.entity.MobEntity;
-import net.minecraft.entity.ai.attributes.AttributeModifier;
-import net.minecraft.entity.ai.attributes.Attributes;
-import net.minecraft.entity.ai.attributes.ModifiableAttributeInstance;
-import net.minecraft.entity.ai.goal.AvoidEntityGoal;
-import net.minecraft.entity.ai.goal.NearestAttackableTargetGoal;
-import net.minecraft.entity.ai.goal.RangedCrossbowAttackGoal;
 import net.minecraft.entity.item.ArmorStandEntity;
 import net.minecraft.entity.item.ItemEntity;
-import net.minecraft.entity.merchant.villager.AbstractVillagerEntity;
 import net.minecraft.entity.monster.*;
-import net.minecraft.entity.passive.CatEntity;
 import net.minecraft.entity.passive.GolemEntity;
-import net.minecraft.entity.passive.IronGolemEntity;
-import net.minecraft.entity.passive.OcelotEntity;
 import net.minecraft.entity.player.PlayerEntity;
 import net.minecraft.entity.player.ServerPlayerEntity;
 import net.minecraft.entity.projectile.ProjectileEntity;
@@ -62,22 +47,25 @@ import net.minecraft.world.Explosion;
 import net.minecraft.world.World;
 import net.minecraft.world.server.ServerWorld;
 import net.minecraftforge.client.event.InputEvent;
+import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.EntityJoinWorldEvent;
+import net.minecraftforge.event.entity.EntityLeaveWorldEvent;
 import net.minecraftforge.event.entity.living.LivingAttackEvent;
 import net.minecraftforge.event.entity.living.LivingDamageEvent;
 import net.minecraftforge.event.entity.living.LivingDropsEvent;
 import net.minecraftforge.event.entity.living.LivingEvent;
+import net.minecraftforge.event.entity.living.LivingEquipmentChangeEvent;
 import net.minecraftforge.event.entity.living.LivingEvent.LivingUpdateEvent;
 import net.minecraftforge.event.entity.living.LivingSetAttackTargetEvent;
 import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import net.minecraftforge.fml.common.Mod;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.Random;
 
 @Mod.EventBusSubscriber(modid = SavageAndRavage.MOD_ID)
@@ -88,67 +76,7 @@ public class SREvents {
 
 	@SubscribeEvent
 	public static void onLivingSpawned(EntityJoinWorldEvent event) {
-		if (event.getEntity() instanceof PillagerEntity) {
-			PillagerEntity pillager = (PillagerEntity) event.getEntity();
-			ImprovedCrossbowGoal<PillagerEntity> aiCrossBow = new ImprovedCrossbowGoal<>(pillager, 1.0D, 8.0F, 5.0D);
-			pillager.goalSelector.availableGoals.stream().map(it -> it.goal).filter(it -> it instanceof RangedCrossbowAttackGoal<?>).findFirst().ifPresent(crossbowGoal -> {
-				pillager.goalSelector.removeGoal(crossbowGoal);
-				pillager.goalSelector.addGoal(3, aiCrossBow);
-			});
-			if (event.getWorld().random.nextInt(100) == 0 && !event.getWorld().isClientSide()) {
-				pillager.setItemSlot(EquipmentSlotType.OFFHAND, createRocket());
-				pillager.startUsingItem(Hand.OFF_HAND);
-				pillager.setDropChance(EquipmentSlotType.OFFHAND, 2.0F);
-			}
-		}
-		if (SRConfig.COMMON.evokersUseTotems.get() && event.getEntity() instanceof EvokerEntity) {
-			EvokerEntity evoker = (EvokerEntity) event.getEntity();
-			evoker.goalSelector.addGoal(1, new AvoidEntityGoal<IronGolemEntity>(evoker, IronGolemEntity.class, 8.0F, 0.6D, 1.0D) {
-				@Override
-				public boolean canUse() {
-					return super.canUse() && SRConfig.COMMON.evokersUseTotems.get() && ((IDataManager) this.mob).getValue(SREntities.TOTEM_SHIELD_TIME) > 0;
-				}
-			});
-		}
-		if (SRConfig.COMMON.reducedVexHealth.get() && event.getEntity() instanceof VexEntity) {
-			VexEntity vex = (VexEntity) event.getEntity();
-			ModifiableAttributeInstance maxHealth = vex.getAttribute(Attributes.MAX_HEALTH);
-			if (maxHealth != null)
-				maxHealth.setBaseValue(2.0);
-			if (vex.getHealth() > vex.getMaxHealth()) {
-				vex.setHealth(vex.getMaxHealth());
-			}
-		}
-		if (event.getEntity() instanceof IronGolemEntity && !SRConfig.COMMON.creeperExplosionsDestroyBlocks.get()) {
-			IronGolemEntity golem = (IronGolemEntity) event.getEntity();
-			golem.targetSelector.availableGoals.stream().map(it -> it.goal).filter(it -> it instanceof NearestAttackableTargetGoal<?>).findFirst().ifPresent(noAngryAtCreeper -> {
-				golem.targetSelector.removeGoal(noAngryAtCreeper);
-				golem.targetSelector.addGoal(3, new NearestAttackableTargetGoal<>(golem, MobEntity.class, 5, false, false, (p_213619_0_) -> p_213619_0_ instanceof IMob));
-			});
-		}
-		if (event.getEntity().getType() == EntityType.CREEPER && !SRConfig.COMMON.creeperExplosionsDestroyBlocks.get()) {
-			CreeperEntity creeper = (CreeperEntity) event.getEntity();
-			creeper.targetSelector.addGoal(4, new NearestAttackableTargetGoal<>(creeper, IronGolemEntity.class, true));
-		}
-
-		if (event.getEntity() instanceof CatEntity) {
-			CatEntity cat = (CatEntity) event.getEntity();
-			cat.targetSelector.addGoal(1, new NearestAttackableTargetGoal<>(cat, CreepieEntity.class, false));
-		}
-
-		if (event.getEntity() instanceof OcelotEntity) {
-			OcelotEntity ocelot = (OcelotEntity) event.getEntity();
-			ocelot.targetSelector.addGoal(1, new NearestAttackableTargetGoal<>(ocelot, CreepieEntity.class, false));
-		}
-
-		if (event.getEntity() instanceof AbstractVillagerEntity) {
-			AbstractVillagerEntity villager = (AbstractVillagerEntity) event.getEntity();
-			villager.goalSelector.addGoal(1, new AvoidEntityGoal<>(villager, SkeletonVillagerEntity.class, 8.0F, 0.6D, 0.6D));
-			villager.goalSelector.addGoal(1, new AvoidEntityGoal<>(villager, GrieferEntity.class, 8.0F, 0.8D, 0.8D));
-			villager.goalSelector.addGoal(1, new AvoidEntityGoal<>(villager, IceologerEntity.class, 8.0F, 0.8D, 0.8D));
-			villager.goalSelector.addGoal(1, new AvoidEntityGoal<>(villager, ExecutionerEntity.class, 8.0F, 0.8D, 0.8D));
-			villager.goalSelector.addGoal(1, new AvoidGrieferOwnedCreepiesGoal<>(villager, CreepieEntity.class, 8.0F, 0.8D, 0.8D));
-		}
+		SRJoinHandlers.onEntityJoin(event.getEntity(), event.getWorld());
 	}
 
 	@SubscribeEvent
@@ -157,7 +85,7 @@ public class SREvents {
 		if (entity.getType() == EntityType.CREEPER) {
 			CreeperEntity creeper = (CreeperEntity) entity;
 			MinecraftServer server = entity.getServer();
-			if (event.getSource().isExplosion() && SRConfig.COMMON.creepersDropSporesAfterExplosionDeath.get() && server != null) {
+			if (event.getSource().isExplosion() && SRConfig.common().creepersDropSporesAfterExplosionDeath && server != null) {
 				LootTable loottable = server.getLootTables().get(SRLoot.CREEPER_EXPLOSION_DROPS);
 				LivingEntityAccessor accessor = (LivingEntityAccessor) creeper;
 				LootContext ctx = accessor.invokeGetLootContextBuilder(accessor.getRecentlyHit() > 0, event.getSource()).create(LootParameterSets.ENTITY);
@@ -216,7 +144,7 @@ public class SREvents {
 					((GolemEntity) entity).setTarget(null);
 				}
 			}
-			if (entity instanceof EvokerEntity && SRConfig.COMMON.evokersUseTotems.get() && ((IDataManager) entity).getValue(SREntities.TOTEM_SHIELD_TIME) > 0)
+			if (entity instanceof EvokerEntity && SRConfig.common().evokersUseTotems && TotemShield.isShielded(entity))
 				((MobEntity) entity).setTarget(null);
 		}
 	}
@@ -227,10 +155,10 @@ public class SREvents {
 		Explosion explosion = event.getExplosion();
 		if (explosion.getSourceMob() != null) {
 			if (explosion.getSourceMob().getType() == EntityType.CREEPER) {
-				if (!SRConfig.COMMON.creeperExplosionsDestroyBlocks.get()) {
+				if (!SRConfig.common().creeperExplosionsDestroyBlocks) {
 					event.getAffectedBlocks().clear();
 				}
-				if (SRConfig.COMMON.creeperExplosionsSpawnCreepies.get()) {
+				if (SRConfig.common().creeperExplosionsSpawnCreepies) {
 					CreeperEntity creeper = (CreeperEntity) explosion.getSourceMob();
 					SporeCloudEntity spores = SREntities.SPORE_CLOUD.get().create(world);
 					if (spores == null)
@@ -247,17 +175,6 @@ public class SREvents {
 			}
 		}
 
-		if (explosion.getExploder() != null && explosion.getExploder().getType() == SREntities.SPORE_BOMB.get()) {
-			for (BlockPos pos : event.getAffectedBlocks()) {
-				if (world.getBlockState(pos).getBlock() == SRBlocks.SPORE_BOMB.get()) {
-					world.removeBlock(pos, false);
-					SporeBombEntity sporebomb = new SporeBombEntity(world, pos.getX() + 0.5, pos.getY(), pos.getZ() + 0.5, explosion.getSourceMob());
-					sporebomb.setFuse((short) (world.getRandom().nextInt(sporebomb.getLife() / 4) + sporebomb.getLife() / 8));
-					world.addFreshEntity(sporebomb);
-				}
-			}
-		}
-
 		List<Entity> safeItems = new ArrayList<>();
 		for (Entity entity : event.getAffectedEntities()) {
 			if (entity instanceof ItemEntity) {
@@ -275,31 +192,27 @@ public class SREvents {
 		LivingEntity entity = event.getEntityLiving();
 
 		if (event.getSource().isExplosion()) {
-			double decrease = 0;
+			ExplosiveDamageReductionCache.Reduction reduction = ExplosiveDamageReductionCache.get(entity);
+			if (reduction == null)
+				return;
 
 			for (EquipmentSlotType slot : EquipmentSlotType.values()) {
-				ItemStack stack = entity.getItemBySlot(slot);
-				Collection<AttributeModifier> modifiers = stack.getAttributeModifiers(slot).get(SRAttributes.EXPLOSIVE_DAMAGE_REDUCTION.get());
-				if (modifiers.isEmpty())
+				if (!reduction.reduces(slot))
 					continue;
 
-				decrease += modifiers.stream().mapToDouble(AttributeModifier::getAmount).sum();
+				ItemStack stack = entity.getItemBySlot(slot);
 				stack.hurtAndBreak(22 - EnchantmentHelper.getItemEnchantmentLevel(Enchantments.BLAST_PROTECTION, stack) * 8, entity, onBroken -> onBroken.broadcastBreakEvent(slot));
 			}
 
-			if (decrease == 0)
-				return;
-
-			event.setAmount(event.getAmount() - (float) (event.getAmount() * decrease));
+			event.setAmount(event.getAmount() - (float) (event.getAmount() * reduction.getTotal()));
 		}
 
-		IDataManager data = (IDataManager) entity;
-		if (entity instanceof EvokerEntity && SRConfig.COMMON.evokersUseTotems.get()) {
+		if (entity instanceof EvokerEntity && SRConfig.common().evokersUseTotems) {
 			if (entity.getHealth() - event.getAmount() <= 0 && event.getSource().getDirectEntity() instanceof ProjectileEntity) {
-				if (data.getValue(SREntities.TOTEM_SHIELD_TIME) <= 0 && data.getValue(SREntities.TOTEM_SHIELD_COOLDOWN) <= 0) {
+				if (TotemShield.getShieldTime(entity) <= 0 && TotemShield.getCooldown(entity) <= 0) {
 					event.setCanceled(true);
 					entity.setHealth(2.0F);
-					data.setValue(SREntities.TOTEM_SHIELD_TIME, 600);
+					TotemShield.activate(entity);
 					if (!entity.level.isClientSide())
 						entity.level.broadcastEntityEvent(entity, (byte) 35);
 				}
@@ -310,9 +223,8 @@ public class SREvents {
 	@SubscribeEvent
 	public static void onLivingAttack(LivingAttackEvent event) {
 		Entity entity = event.getEntity();
-		if (entity instanceof EvokerEntity && SRConfig.COMMON.evokersUseTotems.get()) {
-			IDataManager data = (IDataManager) entity;
-			if (data.getValue(SREntities.TOTEM_SHIELD_TIME) > 0) {
+		if (entity instanceof EvokerEntity && SRConfig.common().evokersUseTotems) {
+			if (TotemShield.isShielded((EvokerEntity) entity)) {
 				if (event.getSource().getDirectEntity() instanceof ProjectileEntity)
 					event.setCanceled(true);
 			}
@@ -326,6 +238,8 @@ public class SREvents {
 		if (target.getType() == EntityType.CREEPER || target.getType() == SREntities.CREEPIE.get()) {
 			if (stack.getItem() == Items.CREEPER_SPAWN_EGG) {
 				World world = event.getWorld();
+				if (!CreepieSpawnGovernor.canSpawn(world, target.getX(), target.getZ()))
+					return;
 				CreepieEntity creepie = SREntities.CREEPIE.get().create(world);
 				if (creepie != null) {
 					creepie.copyPosition(target);
@@ -345,12 +259,9 @@ public class SREvents {
 		World world = event.getWorld();
 		BlockPos pos = event.getPos();
 		if (world.getBlockState(pos).getBlock() instanceof AbstractBannerBlock) {
-			List<BurningBannerEntity> burningBanners = world.getEntitiesOfClass(BurningBannerEntity.class, new AxisAlignedBB(pos));
-			for (BurningBannerEntity burningBanner : burningBanners) {
-				if (burningBanner.getBannerPosition() != null && burningBanner.getBannerPosition().equals(pos)) {
-					burningBanner.extinguishFire();
-				}
-			}
+			BurningBannerEntity burningBanner = BurningBannerEntity.getBurningBanner(world, pos);
+			if (burningBanner != null)
+				burningBanner.extinguishFire();
 		}
 	}
 
@@ -393,11 +304,26 @@ public class SREvents {
 	@SubscribeEvent
 	public static void livingUpdate(LivingUpdateEvent event) {
 		LivingEntity entity = event.getEntityLiving();
-		IDataManager data = (IDataManager) entity;
 		if (entity.getRemainingFireTicks() > 0 && entity.getEffect(SREffects.FROSTBITE.get()) != null)
 			entity.removeEffect(SREffects.FROSTBITE.get());
+		MaskMotionState motion = MaskWearerIndex.get(entity);
+		//Equipment change events only fire on the server, so the client checks its own player's head slot
+		if (motion == null && entity.level.isClientSide() && entity instanceof PlayerEntity && ((PlayerEntity) entity).isLocalPlayer() && isWearingMask(entity))
+			motion = MaskWearerIndex.add(entity.level, entity);
+		if (motion != null)
+			updateMaskState(entity, (IDataManager) entity, motion);
+	}
+
+	private static void updateMaskState(LivingEntity entity, IDataManager data, MaskMotionState motion) {
+		boolean isServerPlayer = !entity.level.isClientSide() && entity instanceof PlayerEntity;
+		if (isServerPlayer) {
+			boolean claimedStill = motion.isClaimedStill();
+			if (data.getValue(SREntities.MARK_INVISIBLE) != claimedStill && (!claimedStill || motion.isAt(entity.getX(), entity.getY(), entity.getZ())))
+				data.setValue(SREntities.MARK_INVISIBLE, claimedStill);
+		}
+
+		boolean canBeInvisible = maskCanMakeInvisible(entity, motion);
 		if (!entity.level.isClientSide()) {
-			boolean canBeInvisible = maskCanMakeInvisible(entity);
 			boolean invisibleDueToMask = data.getValue(SREntities.INVISIBLE_DUE_TO_MASK);
 			boolean maskStateChanged = canBeInvisible != invisibleDueToMask;
 			if (maskStateChanged) {
@@ -409,38 +335,23 @@ public class SREvents {
 				entity.setInvisible(canBeInvisible || entity.hasEffect(Effects.INVISIBILITY));
 
 			//Mitigation against hacking
-			if (canBeInvisible && entity.getServer() != null && entity.getServer().isDedicatedServer() && entity instanceof PlayerEntity) {
-				int illegalTicks = data.getValue(SREntities.ILLEGAL_MASK_TICKS);
-				Vector3d currentPos = entity.position();
-				data.getValue(SREntities.PREVIOUS_POSITION).ifPresent(prevPos -> {
-					if (!prevPos.equals(currentPos)) {
-						data.setValue(SREntities.ILLEGAL_MASK_TICKS, illegalTicks + 1);
-						AbnormalsCore.LOGGER.debug("Incremented illegal mask ticks, value is now " + data.getValue(SREntities.ILLEGAL_MASK_TICKS));
-					} else if (illegalTicks > 0)
-						data.setValue(SREntities.ILLEGAL_MASK_TICKS, illegalTicks - 1);
-				});
-				if (data.getValue(SREntities.ILLEGAL_MASK_TICKS) > 80)
+			if (canBeInvisible && isServerPlayer && entity.getServer() != null && entity.getServer().isDedicatedServer()) {
+				int previousIllegalTicks = motion.getIllegalTicks();
+				int illegalTicks = motion.trackIllegalMovement(entity.getX(), entity.getY(), entity.getZ());
+				if (illegalTicks > previousIllegalTicks && AbnormalsCore.LOGGER.isDebugEnabled())
+					AbnormalsCore.LOGGER.debug("Incremented illegal mask ticks, value is now {}", illegalTicks);
+				if (illegalTicks > SRConfig.common().maskIllegalMovementTicks)
 					((ServerPlayerEntity) entity).connection.disconnect(new TranslationTextComponent("multiplayer.savageandravage.disconnect.invisible_while_moving"));
-				data.setValue(SREntities.PREVIOUS_POSITION, Optional.of(currentPos));
+			} else if (isServerPlayer) {
+				motion.setPosition(entity.getX(), entity.getY(), entity.getZ());
 			}
 		} else if (entity instanceof PlayerEntity) {
-			boolean canBeInvisible = maskCanMakeInvisible(entity);
-			if (((IDataManager) entity).getValue(SREntities.MARK_INVISIBLE) != canBeInvisible)
-				SavageAndRavage.CHANNEL.sendToServer(new MessageC2SIsPlayerStill(entity.getUUID(), canBeInvisible));
-			data.setValue(SREntities.PREVIOUS_POSITION, Optional.of(entity.position()));
-		}
-		if (entity instanceof EvokerEntity) {
-			int shieldTime = data.getValue(SREntities.TOTEM_SHIELD_TIME);
-			if (shieldTime > 0)
-				data.setValue(SREntities.TOTEM_SHIELD_TIME, shieldTime - 1);
-			else if (shieldTime == 0) {
-				data.setValue(SREntities.TOTEM_SHIELD_COOLDOWN, 1800);
-				data.setValue(SREntities.TOTEM_SHIELD_TIME, -1);
-			}
-			int cooldown = data.getValue(SREntities.TOTEM_SHIELD_COOLDOWN);
-			if (cooldown > 0)
-				data.setValue(SREntities.TOTEM_SHIELD_COOLDOWN, cooldown - 1);
+			if (((PlayerEntity) entity).isLocalPlayer() && motion.shouldNotifyServer(canBeInvisible, data.getValue(SREntities.MARK_INVISIBLE), entity.level.getGameTime()))
+				SavageAndRavage.CHANNEL.sendToServer(new MessageC2SIsPlayerStill(canBeInvisible));
+			motion.setPosition(entity.getX(), entity.getY(), entity.getZ());
 		}
+		if (!isWearingMask(entity) && !data.getValue(SREntities.INVISIBLE_DUE_TO_MASK) && !data.getValue(SREntities.MARK_INVISIBLE))
+			MaskWearerIndex.remove(entity.level, entity);
 	}
 
 	@SubscribeEvent
@@ -456,12 +367,50 @@ public class SREvents {
 		}
 	}
 
-	private static boolean maskCanMakeInvisible(LivingEntity entity) {
-		if (!(entity instanceof ArmorStandEntity) && entity.getItemBySlot(EquipmentSlotType.HEAD).getItem() == SRItems.MASK_OF_DISHONESTY.get()) {
+	@SubscribeEvent
+	public static void onEquipmentChange(LivingEquipmentChangeEvent event) {
+		LivingEntity entity = event.getEntityLiving();
+		if (!entity.level.isClientSide())
+			ExplosiveDamageReductionCache.update(entity, event.getSlot(), event.getTo());
+		if (event.getSlot() == EquipmentSlotType.HEAD && isWearingMask(entity))
+			MaskWearerIndex.add(entity.level, entity);
+	}
+
+	@SubscribeEvent
+	public static void onEntityLeaveWorld(EntityLeaveWorldEvent event) {
+		if (event.getEntity() instanceof LivingEntity)
+			MaskWearerIndex.remove(event.getWorld(), (LivingEntity) event.getEntity());
+	}
+
+	@SubscribeEvent
+	public static void onWorldTick(TickEvent.WorldTickEvent event) {
+		if (event.phase == TickEvent.Phase.END && !event.world.isClientSide()) {
+			ExplosionBatcher.flush((ServerWorld) event.world);
+			SporeBombChainReaction.tick(event.world);
+		}
+	}
+
+	@SubscribeEvent
+	public static void onWorldUnload(WorldEvent.Unload event) {
+		MaskWearerIndex.clear(event.getWorld());
+		SporeBombChainReaction.clear(event.getWorld());
+		CreepieSpawnGovernor.clear(event.getWorld());
+		ExplosionBatcher.clear(event.getWorld());
+		OwnedMobRegistry.clear(event.getWorld());
+		SporeCloudEntity.clearLandedClouds(event.getWorld());
+		BurningBannerEntity.clearBurningBanners(event.getWorld());
+	}
+
+	public static boolean isWearingMask(LivingEntity entity) {
+		return !(entity instanceof ArmorStandEntity) && entity.getItemBySlot(EquipmentSlotType.HEAD).getItem() == SRItems.MASK_OF_DISHONESTY.get();
+	}
+
+	private static boolean maskCanMakeInvisible(LivingEntity entity, MaskMotionState motion) {
+		if (isWearingMask(entity)) {
 			IDataManager data = (IDataManager) entity;
 			if (entity.getCommandSenderWorld().isClientSide() || !(entity instanceof PlayerEntity)) {
-				Vector3d motion = entity.getDeltaMovement();
-				return (motion.x == 0 && (entity.isOnGround() || motion.y == 0) && motion.z == 0) && data.getValue(SREntities.PREVIOUS_POSITION).map(previous -> previous.equals(entity.position())).orElse(true);
+				Vector3d deltaMovement = entity.getDeltaMovement();
+				return (deltaMovement.x == 0 && (entity.isOnGround() || deltaMovement.y == 0) && deltaMovement.z == 0) && motion.isAt(entity.getX(), entity.getY(), entity.getZ());
 			} else return data.getValue(SREntities.MARK_INVISIBLE);
 		}
 		return false;
@@ -479,16 +428,7 @@ public class SREvents {
 	}
 
 	public static boolean isValidBurningBannerPos(World world, BlockPos pos) {
-		if (world.getBlockState(pos).getBlock() instanceof AbstractBannerBlock) {
-			List<BurningBannerEntity> banners = world.getEntitiesOfClass(BurningBannerEntity.class, new AxisAlignedBB(pos));
-			boolean noBurningBanners = true;
-			for (BurningBannerEntity banner : banners) {
-				if (banner.getBannerPosition() != null && banner.getBannerPosition().equals(pos))
-					noBurningBanners = false;
-			}
-			return noBurningBanners;
-		}
-		return false;
+		return world.getBlockState(pos).getBlock() instanceof AbstractBannerBlock && BurningBannerEntity.getBurningBanner(world, pos) == null;
 	}
 
 	public static ItemStack createRocket() {
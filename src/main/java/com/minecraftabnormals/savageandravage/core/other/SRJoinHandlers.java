@@ -0,0 +1,170 @@
+package com.minecraftabnormals.savageandravage.core.other;
+
+import com.minecraftabnormals.savageandravage.common.entity.*;
+import com.minecraftabnormals.savageandravage.common.entity.goals.AvoidGrieferOwnedCreepiesGoal;
+import com.minecraftabnormals.savageandravage.common.entity.goals.GoalPatcher;
+import com.minecraftabnormals.savageandravage.common.entity.goals.ImprovedCrossbowGoal;
+import com.minecraftabnormals.savageandravage.core.SRConfig;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityType;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.entity.MobEntity;
+import net.minecraft.entity.ai.attributes.Attributes;
+import net.minecraft.entity.ai.attributes.ModifiableAttributeInstance;
+import net.minecraft.entity.ai.goal.AvoidEntityGoal;
+import net.minecraft.entity.ai.goal.NearestAttackableTargetGoal;
+import net.minecraft.entity.ai.goal.RangedCrossbowAttackGoal;
+import net.minecraft.entity.merchant.villager.AbstractVillagerEntity;
+import net.minecraft.entity.monster.*;
+import net.minecraft.entity.passive.CatEntity;
+import net.minecraft.entity.passive.IronGolemEntity;
+import net.minecraft.entity.passive.OcelotEntity;
+import net.minecraft.inventory.EquipmentSlotType;
+import net.minecraft.util.Hand;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+/**
+ * Dispatches {@link net.minecraftforge.event.entity.EntityJoinWorldEvent} to the handlers that apply to the joining entity's type.
+ * Handlers are matched against a type the first time an entity of it joins, after which the result is a single map lookup.
+ */
+public class SRJoinHandlers {
+	private static final List<Entry> ENTRIES = new ArrayList<>();
+	private static final Map<EntityType<?>, List<JoinHandler<Entity>>> HANDLERS_BY_TYPE = new ConcurrentHashMap<>();
+	private static volatile boolean built;
+	private static final Predicate<LivingEntity> IS_MONSTER = entity -> entity instanceof IMob;
+
+	public static void registerJoinHandlers() {
+		register(PillagerEntity.class, SRJoinHandlers::onPillagerJoin);
+		register(EvokerEntity.class, SRJoinHandlers::onEvokerJoin);
+		register(TricksterEntity.class, (trickster, world) -> {
+			if (!world.isClientSide())
+				TotemShield.convertLegacyTimers(trickster);
+		});
+		register(VexEntity.class, SRJoinHandlers::onVexJoin);
+		register(IronGolemEntity.class, SRJoinHandlers::onIronGolemJoin);
+		registerExact(EntityType.CREEPER, CreeperEntity.class, SRJoinHandlers::onCreeperJoin);
+		register(CatEntity.class, (cat, world) -> cat.targetSelector.addGoal(1, new NearestAttackableTargetGoal<>(cat, CreepieEntity.class, false)));
+		register(OcelotEntity.class, (ocelot, world) -> ocelot.targetSelector.addGoal(1, new NearestAttackableTargetGoal<>(ocelot, CreepieEntity.class, false)));
+		register(AbstractVillagerEntity.class, SRJoinHandlers::onVillagerJoin);
+		register(LivingEntity.class, (entity, world) -> {
+			if (SREvents.isWearingMask(entity))
+				MaskWearerIndex.add(world, entity);
+		});
+		HANDLERS_BY_TYPE.clear();
+		built = true;
+	}
+
+	public static <E extends Entity> void register(Class<E> entityClass, JoinHandler<? super E> handler) {
+		ENTRIES.add(new Entry(entityClass, null, handler));
+	}
+
+	public static <E extends Entity> void registerExact(EntityType<?> type, Class<E> entityClass, JoinHandler<? super E> handler) {
+		ENTRIES.add(new Entry(entityClass, type, handler));
+	}
+
+	public static void onEntityJoin(Entity entity, World world) {
+		if (!built)
+			return;
+		List<JoinHandler<Entity>> handlers = HANDLERS_BY_TYPE.get(entity.getType());
+		if (handlers == null) {
+			handlers = resolve(entity);
+			HANDLERS_BY_TYPE.put(entity.getType(), handlers);
+		}
+		for (int i = 0; i < handlers.size(); i++)
+			handlers.get(i).onJoin(entity, world);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<JoinHandler<Entity>> resolve(Entity entity) {
+		List<JoinHandler<Entity>> handlers = new ArrayList<>();
+		for (Entry entry : ENTRIES) {
+			if (entry.matches(entity))
+				handlers.add((JoinHandler<Entity>) entry.handler);
+		}
+		return handlers.isEmpty() ? Collections.emptyList() : handlers;
+	}
+
+	private static void onPillagerJoin(PillagerEntity pillager, World world) {
+		if (!world.isClientSide() && GoalPatcher.markPatched(pillager))
+			GoalPatcher.replaceFirst(pillager.goalSelector, RangedCrossbowAttackGoal.class, 3, new ImprovedCrossbowGoal<>(pillager, 1.0D, 8.0F, 5.0D));
+		if (world.random.nextInt(100) == 0 && !world.isClientSide()) {
+			pillager.setItemSlot(EquipmentSlotType.OFFHAND, SREvents.createRocket());
+			pillager.startUsingItem(Hand.OFF_HAND);
+			pillager.setDropChance(EquipmentSlotType.OFFHAND, 2.0F);
+		}
+	}
+
+	private static void onEvokerJoin(EvokerEntity evoker, World world) {
+		if (!world.isClientSide())
+			TotemShield.convertLegacyTimers(evoker);
+		if (!SRConfig.common().evokersUseTotems)
+			return;
+		evoker.goalSelector.addGoal(1, new AvoidEntityGoal<IronGolemEntity>(evoker, IronGolemEntity.class, 8.0F, 0.6D, 1.0D) {
+			@Override
+			public boolean canUse() {
+				return super.canUse() && SRConfig.common().evokersUseTotems && TotemShield.isShielded(this.mob);
+			}
+		});
+	}
+
+	private static void onVexJoin(VexEntity vex, World world) {
+		if (!SRConfig.common().reducedVexHealth)
+			return;
+		ModifiableAttributeInstance maxHealth = vex.getAttribute(Attributes.MAX_HEALTH);
+		if (maxHealth != null)
+			maxHealth.setBaseValue(2.0);
+		if (vex.getHealth() > vex.getMaxHealth()) {
+			vex.setHealth(vex.getMaxHealth());
+		}
+	}
+
+	private static void onIronGolemJoin(IronGolemEntity golem, World world) {
+		if (SRConfig.common().creeperExplosionsDestroyBlocks)
+			return;
+		if (!world.isClientSide() && GoalPatcher.markPatched(golem))
+			GoalPatcher.replaceFirst(golem.targetSelector, NearestAttackableTargetGoal.class, 3, new NearestAttackableTargetGoal<>(golem, MobEntity.class, 5, false, false, IS_MONSTER));
+	}
+
+	private static void onCreeperJoin(CreeperEntity creeper, World world) {
+		if (!SRConfig.common().creeperExplosionsDestroyBlocks)
+			creeper.targetSelector.addGoal(4, new NearestAttackableTargetGoal<>(creeper, IronGolemEntity.class, true));
+	}
+
+	private static void onVillagerJoin(AbstractVillagerEntity villager, World world) {
+		villager.goalSelector.addGoal(1, new AvoidEntityGoal<>(villager, SkeletonVillagerEntity.class, 8.0F, 0.6D, 0.6D));
+		villager.goalSelector.addGoal(1, new AvoidEntityGoal<>(villager, GrieferEntity.class, 8.0F, 0.8D, 0.8D));
+		villager.goalSelector.addGoal(1, new AvoidEntityGoal<>(villager, IceologerEntity.class, 8.0F, 0.8D, 0.8D));
+		villager.goalSelector.addGoal(1, new AvoidEntityGoal<>(villager, ExecutionerEntity.class, 8.0F, 0.8D, 0.8D));
+		villager.goalSelector.addGoal(1, new AvoidGrieferOwnedCreepiesGoal<>(villager, CreepieEntity.class, 8.0F, 0.8D, 0.8D));
+	}
+
+	@FunctionalInterface
+	public interface JoinHandler<E extends Entity> {
+		void onJoin(E entity, World world);
+	}
+
+	private static class Entry {
+		private final Class<? extends Entity> entityClass;
+		@Nullable
+		private final EntityType<?> exactType;
+		private final JoinHandler<?> handler;
+
+		private Entry(Class<? extends Entity> entityClass, @Nullable EntityType<?> exactType, JoinHandler<?> handler) {
+			this.entityClass = entityClass;
+			this.exactType = exactType;
+			this.handler = handler;
+		}
+
+		private boolean matches(Entity entity) {
+			return this.exactType != null ? entity.getType() == this.exactType : this.entityClass.isInstance(entity);
+		}
+	}
+}
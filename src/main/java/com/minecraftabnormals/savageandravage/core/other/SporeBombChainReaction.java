@@ -0,0 +1,99 @@
+package com.minecraftabnormals.savageandravage.core.other;
+
+import com.minecraftabnormals.savageandravage.common.entity.block.SporeBombEntity;
+import com.minecraftabnormals.savageandravage.core.registry.SRBlocks;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.entity.LivingEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.world.IWorld;
+import net.minecraft.world.World;
+
+import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Queues spore bombs set off by other explosions and primes them over the following ticks, a few at a time, so a large
+ * stockpile of spore bombs doesn't all turn into entities on the tick it is hit.
+ */
+public class SporeBombChainReaction {
+	public static final int IGNITIONS_PER_TICK = 8;
+	private static final Map<IWorld, Long2ObjectLinkedOpenHashMap<PendingBomb>> PENDING = new ConcurrentHashMap<>();
+
+	/**
+	 * Queues the spore bomb block at the given position. It stays in the world until it is primed, and is skipped if it
+	 * has been removed by then.
+	 */
+	public static void queueBlock(World world, BlockPos pos, @Nullable LivingEntity igniter) {
+		queue(world, pos, igniter, true);
+	}
+
+	/**
+	 * Queues a spore bomb whose block has already been destroyed.
+	 */
+	public static void queueDestroyed(World world, BlockPos pos, @Nullable LivingEntity igniter) {
+		queue(world, pos, igniter, false);
+	}
+
+	/**
+	 * Queues every spore bomb block within the given radius, for explosions that don't collect the blocks they reach.
+	 */
+	public static void queueInRadius(World world, double x, double y, double z, float radius, @Nullable LivingEntity igniter) {
+		BlockPos.Mutable pos = new BlockPos.Mutable();
+		int range = MathHelper.ceil(radius);
+		double radiusSq = radius * radius;
+		for (int dx = -range; dx <= range; dx++) {
+			for (int dy = -range; dy <= range; dy++) {
+				for (int dz = -range; dz <= range; dz++) {
+					pos.set(x + dx, y + dy, z + dz);
+					if (pos.distSqr(x, y, z, true) <= radiusSq && world.getBlockState(pos).getBlock() == SRBlocks.SPORE_BOMB.get())
+						queueBlock(world, pos, igniter);
+				}
+			}
+		}
+	}
+
+	private static void queue(World world, BlockPos pos, @Nullable LivingEntity igniter, boolean inWorld) {
+		Long2ObjectLinkedOpenHashMap<PendingBomb> pending = PENDING.computeIfAbsent(world, key -> new Long2ObjectLinkedOpenHashMap<>());
+		PendingBomb bomb = pending.get(pos.asLong());
+		if (bomb == null)
+			pending.put(pos.asLong(), new PendingBomb(pos.immutable(), igniter, inWorld));
+		else if (!inWorld)
+			bomb.inWorld = false;
+	}
+
+	public static void tick(World world) {
+		Long2ObjectLinkedOpenHashMap<PendingBomb> pending = PENDING.get(world);
+		if (pending == null)
+			return;
+		for (int i = 0; i < IGNITIONS_PER_TICK && !pending.isEmpty(); i++) {
+			PendingBomb bomb = pending.removeFirst();
+			if (bomb.inWorld) {
+				if (world.getBlockState(bomb.pos).getBlock() != SRBlocks.SPORE_BOMB.get())
+					continue;
+				world.removeBlock(bomb.pos, false);
+			}
+			SporeBombEntity sporebomb = new SporeBombEntity(world, bomb.pos.getX() + 0.5, bomb.pos.getY(), bomb.pos.getZ() + 0.5, bomb.igniter);
+			sporebomb.setFuse((short) (world.getRandom().nextInt(sporebomb.getLife() / 4) + sporebomb.getLife() / 8));
+			world.addFreshEntity(sporebomb);
+		}
+	}
+
+	public static void clear(IWorld world) {
+		PENDING.remove(world);
+	}
+
+	private static class PendingBomb {
+		private final BlockPos pos;
+		@Nullable
+		private final LivingEntity igniter;
+		private boolean inWorld;
+
+		private PendingBomb(BlockPos pos, @Nullable LivingEntity igniter, boolean inWorld) {
+			this.pos = pos;
+			this.igniter = igniter;
+			this.inWorld = inWorld;
+		}
+	}
+}
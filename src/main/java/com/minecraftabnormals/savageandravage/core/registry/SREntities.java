@@ -9,14 +9,12 @@ import com.minecraftabnormals.savageandravage.client.render.*;
 import com.minecraftabnormals.savageandravage.common.entity.*;
 import com.minecraftabnormals.savageandravage.common.entity.block.SporeBombEntity;
 import com.minecraftabnormals.savageandravage.core.SavageAndRavage;
-import com.minecraftabnormals.savageandravage.core.other.SRCompat;
 import net.minecraft.entity.EntityClassification;
 import net.minecraft.entity.EntitySpawnPlacementRegistry;
 import net.minecraft.entity.EntityType;
 import net.minecraft.entity.monster.AbstractSkeletonEntity;
 import net.minecraft.entity.monster.MonsterEntity;
 import net.minecraft.util.ResourceLocation;
-import net.minecraft.util.math.vector.Vector3d;
 import net.minecraft.world.gen.Heightmap;
 import net.minecraft.world.raid.Raid;
 import net.minecraftforge.event.entity.EntityAttributeCreationEvent;
@@ -27,8 +25,6 @@ import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.registries.DeferredRegister;
 import net.minecraftforge.registries.ForgeRegistries;
 
-import java.util.Optional;
-
 @Mod.EventBusSubscriber(modid = SavageAndRavage.MOD_ID, bus = Mod.EventBusSubscriber.Bus.MOD)
 public class SREntities {
 
@@ -51,12 +47,21 @@ public class SREntities {
 	public static final RegistryObject<EntityType<IceChunkEntity>> ICE_CHUNK = ENTITIES.register("ice_chunk", () -> EntityType.Builder.<IceChunkEntity>of(IceChunkEntity::new, EntityClassification.MISC).sized(2.2F, 1.0F).clientTrackingRange(8).updateInterval(Integer.MAX_VALUE).build(SavageAndRavage.MOD_ID + ":ice_chunk"));
 	public static final RegistryObject<EntityType<IceCloudEntity>> ICE_CLOUD = ENTITIES.register("ice_cloud", () -> EntityType.Builder.<IceCloudEntity>of(IceCloudEntity::new, EntityClassification.MISC).sized(1.0F, 1.0F).clientTrackingRange(8).build(SavageAndRavage.MOD_ID + ":ice_cloud"));
 
-	public static final TrackedData<Integer> TOTEM_SHIELD_TIME = TrackedData.Builder.create(DataProcessors.INT, () -> -1).enableSaving().build();
-	public static final TrackedData<Integer> TOTEM_SHIELD_COOLDOWN = TrackedData.Builder.create(DataProcessors.INT, () -> 0).enableSaving().build();
+	public static final TrackedData<Long> TOTEM_SHIELD_END_TIME = TrackedData.Builder.create(DataProcessors.LONG, () -> 0L).enableSaving().build();
+	public static final TrackedData<Long> TOTEM_SHIELD_COOLDOWN_END_TIME = TrackedData.Builder.create(DataProcessors.LONG, () -> 0L).enableSaving().build();
+	/**
+	 * @deprecated Only read to convert shields saved by older versions, see {@link TotemShield#convertLegacyTimers}.
+	 */
+	@Deprecated
+	public static final TrackedData<Integer> LEGACY_TOTEM_SHIELD_TIME = TrackedData.Builder.create(DataProcessors.INT, () -> -1).enableSaving().setSyncType(SyncType.NOPE).build();
+	/**
+	 * @deprecated Only read to convert shields saved by older versions, see {@link TotemShield#convertLegacyTimers}.
+	 */
+	@Deprecated
+	public static final TrackedData<Integer> LEGACY_TOTEM_SHIELD_COOLDOWN = TrackedData.Builder.create(DataProcessors.INT, () -> 0).enableSaving().setSyncType(SyncType.NOPE).build();
 	public static final TrackedData<Boolean> MARK_INVISIBLE = TrackedData.Builder.create(DataProcessors.BOOLEAN, () -> false).enableSaving().setSyncType(SyncType.TO_CLIENTS).build();
 	public static final TrackedData<Boolean> INVISIBLE_DUE_TO_MASK = TrackedData.Builder.create(DataProcessors.BOOLEAN, () -> false).enableSaving().setSyncType(SyncType.TO_CLIENTS).build();
-	public static final TrackedData<Optional<Vector3d>> PREVIOUS_POSITION = TrackedData.Builder.create(SRCompat.OPTIONAL_VECTOR3D, Optional::empty).setSyncType(SyncType.NOPE).build();
-	public static final TrackedData<Integer> ILLEGAL_MASK_TICKS = TrackedData.Builder.create(DataProcessors.INT, () -> 0).setSyncType(SyncType.NOPE).build();
+	public static final TrackedData<Boolean> GOALS_PATCHED = TrackedData.Builder.create(DataProcessors.BOOLEAN, () -> false).setSyncType(SyncType.NOPE).build();
 
 	public static void registerEntitySpawns() {
 		EntitySpawnPlacementRegistry.register(SREntities.SKELETON_VILLAGER.get(), EntitySpawnPlacementRegistry.PlacementType.ON_GROUND, Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, MonsterEntity::checkMonsterSpawnRules);
@@ -64,13 +69,15 @@ public class SREntities {
 		EntitySpawnPlacementRegistry.register(SREntities.ICEOLOGER.get(), EntitySpawnPlacementRegistry.PlacementType.ON_GROUND, Heightmap.Type.MOTION_BLOCKING_NO_LEAVES, IceologerEntity::canIceologerSpawn);
 	}
 
+	@SuppressWarnings("deprecation")
 	public static void registerTrackedData() {
-		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "evoker_shield_time"), TOTEM_SHIELD_TIME);
-		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "evoker_shield_cooldown"), TOTEM_SHIELD_COOLDOWN);
+		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "evoker_shield_end_time"), TOTEM_SHIELD_END_TIME);
+		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "evoker_shield_cooldown_end_time"), TOTEM_SHIELD_COOLDOWN_END_TIME);
+		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "evoker_shield_time"), LEGACY_TOTEM_SHIELD_TIME);
+		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "evoker_shield_cooldown"), LEGACY_TOTEM_SHIELD_COOLDOWN);
 		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "mark_invisible"), MARK_INVISIBLE);
 		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "invisible_due_to_mask"), INVISIBLE_DUE_TO_MASK);
-		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "previous_position"), PREVIOUS_POSITION);
-		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "illegal_mask_ticks"), ILLEGAL_MASK_TICKS);
+		TrackedDataManager.INSTANCE.registerData(new ResourceLocation(SavageAndRavage.MOD_ID, "goals_patched"), GOALS_PATCHED);
 	}
 
 	public static void registerWaveMembers() {